@@ -13,7 +13,7 @@ import Player.Heroes.Hero;
 import Player.Monsters.*;
 import Display.MonstersAndHeroes.*;
 import Display.Statistics.StatisticsDisplay;
-import Utilities.DataLoader;
+import Utilities.GameRandom;
 import Utilities.Percentages;
 import Utilities.MonstersAndHeroesGameConstants;
 import ErrorMessages.*;
@@ -26,6 +26,7 @@ public class Battle implements IBattle {
     private List<Hero> heroes;
     private List<Monster> monsters;
     private boolean surrendered = false;
+    private GameRandom random;
     PrintErrorMessages print = new PrintErrorMessages();
 
     // Inner class used to store and manage temporary spell effects on a monster,
@@ -38,12 +39,13 @@ public class Battle implements IBattle {
     }
 
     /**
-     * Constructor for the Battle class.
+     * Constructor for the Battle class using the game's random source.
      * @param heroes The list of heroes participating in the battle.
-     * @return no return type
+     * @param random The game's random source for monster selection, dodges and targeting.
      */
-    public Battle(List<Hero> heroes) {
+    public Battle(List<Hero> heroes, GameRandom random) {
         this.heroes = heroes;
+        this.random = random;
         this.monsters = createMonsters();
         this.monsterDebuffs = new HashMap<>();
         // For each monster in the battle, creates a new spell effect
@@ -63,41 +65,8 @@ public class Battle implements IBattle {
         int monsterCount = heroes.size();
         int monsterLevel = getHighestHeroLevel();
 
-        // Loading Data
-        List<String[]> dragonData = DataLoader.readData("Dragons.txt");
-        List<String[]> exoskeletonData = DataLoader.readData("Exoskeletons.txt");
-        List<String[]> spiritData = DataLoader.readData("Spirits.txt");
-
-        // Percentages for Monsters
-        double dragonProb = Percentages.DRAGON;
-        double exoskeletonProb = Percentages.EXOSKELETON;
-
         for (int i = 0; i < monsterCount; i++) {
-            double random = Math.random();
-
-            // If the random value falls within the dragon probability range, then picks a random dragon, then cast to an int (random dragon added to list)
-            if (random < dragonProb) {
-                String[] dragon = dragonData.get( (int)(Math.random() * dragonData.size()));
-                // monsters.add(new Dragon(dragon[0], monsterLevel, Integer.parseInt(dragon[2]), Integer.parseInt(dragon[3]), Integer.parseInt(dragon[4])));
-                monsters.add(MonsterFactory.createMonster("Dragon", dragon, monsterLevel));
-
-            }
-
-            // If the random number wasn't small enough to create a Dragon, but is still within range of Dragon + Exoskeleton probability, then we create an Exoskeleton monster instead.
-            else if (random < dragonProb + exoskeletonProb) {
-                String[] exoskeleton = exoskeletonData.get((int) (Math.random() * exoskeletonData.size()));
-                // monsters.add(new Exoskeleton(exoskeleton[0], monsterLevel, Integer.parseInt(exoskeleton[2]), Integer.parseInt(exoskeleton[3]), Integer.parseInt(exoskeleton[4])));
-                monsters.add(MonsterFactory.createMonster("Exoskeleton", exoskeleton, monsterLevel));
-
-            }
-
-            // Last probablility is spirit monster
-            else {
-                String[] spirit = spiritData.get((int) (Math.random() * spiritData.size()));
-                // monsters.add(new Spirit(spirit[0], monsterLevel, Integer.parseInt(spirit[2]), Integer.parseInt(spirit[3]), Integer.parseInt(spirit[4])));
-                monsters.add(MonsterFactory.createMonster("Spirit", spirit, monsterLevel));
-
-            }
+            monsters.add(MonsterFactory.createRandomMonster(monsterLevel, random));
         }
         // returns list of monster
         return monsters;
@@ -248,7 +217,7 @@ public class Battle implements IBattle {
             // To prevent the game getting stuck if both sides do 0 damage,
             // there's a small chance to still deal 1 damage.
             // 25% chance to do 1 damage to prevent stalemate
-            if (Math.random() < 0.25) {
+            if (random.nextDouble() < 0.25) {
                 finalDamage = 1;
             }
         }
@@ -270,20 +239,8 @@ public class Battle implements IBattle {
     private boolean castSpell(Hero hero) {
         if (!monstersAlive()) return true;
         
-        // going through the hero’s inventory and pulling out only the spells
-        // that they are actually high enough level to use.
-        List<Spell> availableSpells = new ArrayList<>();
-        // Goes through heroes inventory one by one
-        for (Item item : hero.getInventory()){
-            // Checks if the item is a spell or not
-            if (item instanceof Spell){
-                Spell spell = (Spell) item;
-                // Only add the spell to availableSpells if the hero's level is high enough
-                if (spell.getRequiredLevel() <= hero.getLevel()) {
-                    availableSpells.add(spell);
-                }
-            }
-        }
+        // The spells the hero is actually high enough level to use, straight from the inventory's level buckets
+        List<Spell> availableSpells = hero.getUsableSpells();
         if (availableSpells.isEmpty()) {
             Display.noSpellsAvailable(hero);
             return false;
@@ -385,15 +342,7 @@ public class Battle implements IBattle {
      */
     private boolean usePotion(Hero hero) {
         // Get available potions from inventory
-        List<Potion> availablePotions = new ArrayList<>();
-        for (Item item : hero.getInventory()) {
-            if (item instanceof Potion) {
-                Potion potion = (Potion) item;
-                if (potion.getRequiredLevel() <= hero.getLevel()) {
-                    availablePotions.add(potion);
-                }
-            }
-        }
+        List<Potion> availablePotions = hero.getUsablePotions();
         if (availablePotions.isEmpty()) {
             Display.noPotionsAvailable(hero);
             return false;
@@ -408,32 +357,9 @@ public class Battle implements IBattle {
         
         Potion potion = availablePotions.get(potionIndex);
         String attribute = potion.getAttributeAffected();
-        int increase = potion.getAttributeIncrease();
         
         // Apply potion effects
-        boolean used = false;
-        if (attribute.contains("Health") || attribute.contains("All")) {
-            int newHp = Math.min(hero.getHp() + increase, hero.getMaxHp());
-            hero.setHp(newHp);
-            used = true;
-        }
-        if (attribute.contains("Mana") || attribute.contains("All")) {
-            int newMp = Math.min(hero.getMp() + increase, hero.getMaxMp());
-            hero.setMp(newMp);
-            used = true;
-        }
-        if (attribute.contains("Strength") || attribute.contains("All")) {
-            hero.setStrength(hero.getStrength() + increase);
-            used = true;
-        }
-        if (attribute.contains("Dexterity") || attribute.contains("All")) {
-            hero.setDexterity(hero.getDexterity() + increase);
-            used = true;
-        }
-        if (attribute.contains("Agility") || attribute.contains("All")) {
-            hero.setAgility(hero.getAgility() + increase);
-            used = true;
-        }
+        boolean used = hero.drinkPotion(potion);
         if (used){
             hero.getInventory().remove(potion);
             Display.potionUsed(hero, potion, attribute);
@@ -450,13 +376,7 @@ public class Battle implements IBattle {
      */
     private boolean equip(Hero hero) {
         // Get equippable items from inventory
-        List<Item> equippableItems = new ArrayList<>();
-        for (Item item : hero.getInventory()) {
-            if ((item instanceof Weapon || item instanceof Armor) && 
-                item.getRequiredLevel() <= hero.getLevel()) {
-                equippableItems.add(item);
-            }
-        }
+        List<Item> equippableItems = hero.getUsableEquipment();
         if (equippableItems.isEmpty()) {
             Display.noItemsToEquip(hero);
             return false;
@@ -503,7 +423,7 @@ public class Battle implements IBattle {
         for (Monster monster : monsters) {
             if (monster.isAlive()) {
                 // Select random alive hero as target
-                Hero target = aliveHeroes.get((int) (Math.random() * aliveHeroes.size()));
+                Hero target = aliveHeroes.get(random.nextInt(aliveHeroes.size()));
                 
                 // Check dodge based on hero agility
                 if (checkHeroDodge(target, monster.getDodgeChance())) {
@@ -537,7 +457,7 @@ public class Battle implements IBattle {
                 // This prevents a fight from completely stalling when armor negates all damage
                 if (finalDamage == 0) {
                     // 25% chance to do 1 damage to prevent stalemate
-                    if (Math.random() < 0.25) {
+                    if (random.nextDouble() < 0.25) {
                         finalDamage = 1; //applies just one point of dammage
                     }
                 }
@@ -566,7 +486,7 @@ public class Battle implements IBattle {
         else {
             dodgeMult = MonstersAndHeroesGameConstants.BASE_DAMAGE_MULTIPLIER;
         }
-        return Math.random() < (monster.getDodgeChance() * 0.01 * dodgeMult);
+        return random.nextDouble() < (monster.getDodgeChance() * 0.01 * dodgeMult);
     }
     
     /**
@@ -576,7 +496,7 @@ public class Battle implements IBattle {
      * @return true if the hero dodges, false otherwise.
      */
     private boolean checkHeroDodge(Hero hero, int monsterDodge) {
-        return Math.random() < (hero.getAgility() * 0.002 * hero.getDodgeDebuff());
+        return random.nextDouble() < (hero.getAgility() * 0.002 * hero.getDodgeDebuff());
     }
     
     /**
@@ -646,7 +566,7 @@ public class Battle implements IBattle {
         if (surrendered) {
             Display.battleSurrender();
             for (Hero hero : heroes) {
-                hero.applySurrenderDebuff();
+                hero.applySurrenderDebuff(random);
             }
             return;
         }
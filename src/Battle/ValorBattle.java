@@ -19,6 +19,10 @@ import Display.Valor.*;
 import Utilities.*;
 import Factories.MonsterFactory;
 import Market.Market;
+import Controller.HeroController;
+import Controller.ConsoleHeroController;
+import Buffs.EffectScheduler;
+import Buffs.TimedEffect;
 
 import java.util.*;
 
@@ -27,42 +31,100 @@ public class ValorBattle {
     private ValorBoard board;
     private List<Hero> heroes;
     private List<Integer> heroLanes;
-    private Map<Monster, SpellEffect> monsterDebuffs;
+    // Spell debuff timers indexed by monster slot; released when the monster leaves the board.
+    // The multipliers themselves live in the monster collection's arrays.
+    private SpellEffect[] monsterDebuffs;
+    // Expires spell debuffs by round instead of counting every debuff down
+    private EffectScheduler debuffScheduler;
     private int currentRound;
     private int monsterSpawnInterval;
     private int monsterCounter;
+    private int monstersKilled;
     private boolean gameOver;
     private boolean heroesWon;
+    private GameRandom random;
+    private HeroController controller;
+    private ValorView view;
+    // Opened on the first visit; items sold back stay in stock for the rest of the game
+    private Market market;
+    // Survival mode: no victory, escalating waves, a number of nexus breaches tolerated
+    private boolean survival;
+    private int breachesAllowed;
+    private int breaches;
+    private int wave;
+    // Survival monsters owed to each lane whose nexus was full; spawned as tiles free up
+    private long[] pendingSpawns;
+    // Reused every turn so the monster phase and hero targeting do not allocate
+    private BoardEntity[] turnOrder;
+    private final BoardEntity[] inRange = new BoardEntity[ValorBoard.MAX_ENTITIES_IN_RANGE];
+    private final List<Monster> targets = new ArrayList<>(ValorBoard.MAX_ENTITIES_IN_RANGE);
+    private final List<MonsterWrapper> targetWrappers = new ArrayList<>(ValorBoard.MAX_ENTITIES_IN_RANGE);
     
     /**
-     * Inner class for tracking spell debuffs on monsters.
+     * Inner class for timing spell debuffs on monsters.
+     * Scheduled on debuffScheduler while a debuff is active; expiring clears all three multipliers of its slot.
      */
-    private static class SpellEffect {
-        double damageMultiplier = 1.0;
-        double defenseMultiplier = 1.0;
-        double dodgeMultiplier = 1.0;
-        int roundsRemaining = 0;
+    private static class SpellEffect extends TimedEffect {
+        final EntityCollection monsters;
+        final int slot;
+
+        SpellEffect(EntityCollection monsters, int slot) {
+            this.monsters = monsters;
+            this.slot = slot;
+        }
+
+        @Override
+        protected void expire() {
+            monsters.resetMultipliers(slot);
+        }
     }
     
     /**
-     * Constructor for ValorBattle.
+     * Constructor for ValorBattle using the game's random source.
      * @param board The game board.
      * @param heroes The list of heroes.
      * @param heroLanes The lane assignments for each hero.
      * @param difficulty The difficulty level (1=Easy, 2=Medium, 3=Hard).
+     * @param random The game's random source for dodges, targeting and spawns.
      */
-    public ValorBattle(ValorBoard board, List<Hero> heroes, List<Integer> heroLanes, int difficulty) {
+    public ValorBattle(ValorBoard board, List<Hero> heroes, List<Integer> heroLanes, int difficulty, GameRandom random) {
+        this(board, heroes, heroLanes, difficulty, random, new ConsoleHeroController(), new ConsoleValorView());
+    }
+
+    /**
+     * Constructor for ValorBattle with a custom hero controller and output sink.
+     * A bot controller with a SilentValorView runs a game without any terminal I/O.
+     * @param board The game board.
+     * @param heroes The list of heroes.
+     * @param heroLanes The lane assignments for each hero.
+     * @param difficulty The difficulty level (1=Easy, 2=Medium, 3=Hard).
+     * @param random The game's random source for dodges, targeting and spawns.
+     * @param controller Supplies hero actions, targets and directions.
+     * @param view Receives everything the battle reports.
+     */
+    public ValorBattle(ValorBoard board, List<Hero> heroes, List<Integer> heroLanes, int difficulty,
+                       GameRandom random, HeroController controller, ValorView view) {
         this.board = board;
+        this.random = random;
+        this.controller = controller;
+        this.view = view;
         this.heroes = heroes;
         this.heroLanes = heroLanes;
-        this.monsterDebuffs = new HashMap<>();
+        this.monsterDebuffs = new SpellEffect[Math.max(1, board.getMonsters().capacity())];
+        // One monster per lane tile, so the turn order never has to grow mid-game
+        this.turnOrder = new BoardEntity[Math.max(board.getMonsters().capacity(),
+                board.getRows() * board.getLaneCount() * board.getGeometry().getLaneWidth())];
+        this.debuffScheduler = new EffectScheduler();
+        board.getMonsters().addReleaseListener((slot, entity) -> releaseDebuff(slot));
         this.currentRound = 0;
         this.monsterCounter = 3; // Start at 3 since initial monsters are 1, 2, 3
         this.gameOver = false;
         this.heroesWon = false;
-        
-        // Initialize debuff maps for existing monsters on board
-        initializeExistingMonsters();
+
+        // Level ups are reported through the view
+        for (Hero hero : heroes) {
+            hero.setAnnounceLevelUps(false);
+        }
         
         switch (difficulty) {
             case ValorGameConstants.DIFFICULTY_EASY:
@@ -80,29 +142,53 @@ public class ValorBattle {
     }
     
     /**
-     * Initializes debuff tracking for monsters already on the board.
+     * Gets the spell debuff timer of a monster, creating it on the first hit.
      */
-    private void initializeExistingMonsters() {
-        for (BoardEntity entity : board.getMonsters()) {
-            if (entity instanceof MonsterWrapper) {
-                Monster monster = ((MonsterWrapper) entity).getMonster();
-                if (!monsterDebuffs.containsKey(monster)) {
-                    monsterDebuffs.put(monster, new SpellEffect());
-                }
-            }
+    private SpellEffect getOrCreateDebuff(MonsterWrapper mw) {
+        int slot = mw.getSlot();
+        if (slot >= monsterDebuffs.length) {
+            monsterDebuffs = Arrays.copyOf(monsterDebuffs, Math.max(slot + 1, monsterDebuffs.length * 2));
+        }
+        if (monsterDebuffs[slot] == null) {
+            monsterDebuffs[slot] = new SpellEffect(board.getMonsters(), slot);
+        }
+        return monsterDebuffs[slot];
+    }
+    
+    /**
+     * Drops the debuff held for a slot whose monster left the board.
+     */
+    private void releaseDebuff(int slot) {
+        if (slot < monsterDebuffs.length && monsterDebuffs[slot] != null) {
+            debuffScheduler.cancel(monsterDebuffs[slot]);
+            monsterDebuffs[slot] = null;
         }
     }
     
+    /**
+     * Switches the battle to survival mode: the heroes cannot win, waves grow in size and
+     * level without end, and the score is the number of rounds survived. Monsters that reach
+     * the heroes' Nexus are removed until the allowed number of breaches is used up; the
+     * next breach ends the game. Monsters blocked by an obstacle step around it within their lane.
+     * @param breachesAllowed Breaches tolerated before defeat (0 = the first breach loses).
+     */
+    public void enableSurvival(int breachesAllowed) {
+        this.survival = true;
+        this.breachesAllowed = breachesAllowed;
+        this.pendingSpawns = new long[board.getLaneCount()];
+        board.enableMonsterSidesteps();
+    }
+    
     /**
      * Executes a full game round: hero turns -> monster turns -> end of round.
      * @return true if the game should continue, false if game is over.
      */
     public boolean executeRound() {
         currentRound++;
-        ValorDisplay.showRound(currentRound);
+        view.showRound(currentRound);
         
         // Display the board
-        board.printBoard();
+        view.showBoard(board);
         
         // Heroes' turn
         heroTurn();
@@ -136,6 +222,11 @@ public class ValorBattle {
         // Spawn new monsters if interval reached
         if (currentRound % monsterSpawnInterval == 0) {
             spawnMonsters();
+        } else if (survival) {
+            int spawned = spawnPending();
+            if (spawned > 0) {
+                view.monstersSpawned(spawned);
+            }
         }
         
         return true;
@@ -155,11 +246,12 @@ public class ValorBattle {
                 continue; // Skip turn for respawned heroes
             }
             
-            ValorDisplay.heroTurnStart(hero, heroIndex);
+            view.heroTurnStart(hero, heroIndex);
             
             boolean actionTaken = false;
+            int attempt = 0;
             while (!actionTaken && !gameOver) {
-                char action = ValorInput.getHeroAction();
+                char action = controller.chooseAction(board, hero, i, attempt++);
                 
                 switch (action) {
                     case 'A': // Attack
@@ -177,19 +269,19 @@ public class ValorBattle {
                     case 'M': // Move
                         actionTaken = handleMove(hero);
                         if (actionTaken) {
-                            board.printBoard();
+                            view.showBoard(board);
                         }
                         break;
                     case 'T': // Teleport
                         actionTaken = handleTeleport(hero, i);
                         if (actionTaken) {
-                            board.printBoard();
+                            view.showBoard(board);
                         }
                         break;
                     case 'R': // Recall
                         actionTaken = handleRecall(hero);
                         if (actionTaken) {
-                            board.printBoard();
+                            view.showBoard(board);
                         }
                         break;
                     case 'B': // Market (Buy/Sell)
@@ -198,15 +290,15 @@ public class ValorBattle {
                     case 'O': // Remove Obstacle
                         actionTaken = handleRemoveObstacle(hero);
                         if (actionTaken) {
-                            board.printBoard();
+                            view.showBoard(board);
                         }
                         break;
                     case 'I': // Info
-                        ValorDisplay.showAllInfo(heroes, board.getMonsters());
-                        board.printBoard();
+                        view.showAllInfo(heroes, board.getMonsters());
+                        view.showBoard(board);
                         break;
                     case 'X': // Pass turn
-                        ValorDisplay.passTurn(hero);
+                        view.passTurn(hero);
                         actionTaken = true;
                         break;
                     case 'Q': // Quit
@@ -229,60 +321,100 @@ public class ValorBattle {
      * Manages monsters' turns - each monster attacks if possible, otherwise moves.
      */
     public void monsterTurn() {
-        ValorDisplay.monstersTurnStart();
+        view.monstersTurnStart();
         
-        List<BoardEntity> monsterList = board.getMonsters().getAliveEntities();
+        // Snapshot the turn order first: breaches in survival remove monsters mid-turn
+        EntityCollection monsters = board.getMonsters();
+        if (turnOrder.length < monsters.size()) {
+            turnOrder = new BoardEntity[Math.max(monsters.size(), turnOrder.length * 2)];
+        }
+        int monsterCount = monsters.copyAlive(turnOrder);
         
-        for (BoardEntity entity : monsterList) {
-            if (!entity.isAlive()) continue;
-            
-            MonsterWrapper mw = (MonsterWrapper) entity;
-            Monster monster = mw.getMonster();
+        try {
+            for (int i = 0; i < monsterCount && !gameOver; i++) {
+                monsterAct((MonsterWrapper) turnOrder[i]);
+            }
+        } finally {
+            Arrays.fill(turnOrder, 0, monsterCount, null);
+        }
+    }
+    
+    /**
+     * One monster's turn: attack a random hero in range, otherwise step south.
+     */
+    private void monsterAct(MonsterWrapper mw) {
+        if (!mw.isAlive()) {
+            return;
+        }
+        Monster monster = mw.getMonster();
+        
+        // Check if any hero is in range
+        int heroCount = board.getEntitiesInRange(mw.getRow(), mw.getCol(), false, inRange);
+        
+        if (heroCount > 0) {
+            // Attack a random hero in range
+            HeroWrapper hw = (HeroWrapper) inRange[random.nextInt(heroCount)];
+            Arrays.fill(inRange, 0, heroCount, null);
+            Hero targetHero = hw.getHero();
             
-            // Check if any hero is in range
-            List<BoardEntity> heroesInRange = board.getEntitiesInRange(entity);
+            monsterAttack(monster, targetHero, mw);
+        } else {
+            // Move forward (south)
+            int oldRow = mw.getRow();
+            boolean moved = board.moveMonster(mw);
             
-            if (!heroesInRange.isEmpty()) {
-                // Attack a random hero in range
-                BoardEntity targetEntity = heroesInRange.get((int)(Math.random() * heroesInRange.size()));
-                HeroWrapper hw = (HeroWrapper) targetEntity;
-                Hero targetHero = hw.getHero();
+            if (moved) {
+                view.monsterMoved(monster, oldRow, mw.getRow());
+                view.showBoard(board);
                 
-                monsterAttack(monster, targetHero, mw);
-            } else {
-                // Move forward (south)
-                int oldRow = mw.getRow();
-                boolean moved = board.moveMonster(mw);
-                
-                if (moved) {
-                    ValorDisplay.monsterMoved(monster, oldRow, mw.getRow());
-                    board.printBoard();
-                    
-                    // Check for defeat (monster reached heroes' nexus)
-                    if (mw.getRow() >= ValorGameConstants.HEROES_NEXUS_ROW) {
-                        gameOver = true;
-                        heroesWon = false;
-                        return;
-                    }
+                // Check for defeat (monster reached heroes' nexus)
+                if (mw.getRow() >= board.getHeroesNexusRow() && !absorbBreach(mw)) {
+                    gameOver = true;
+                    heroesWon = false;
                 }
             }
         }
     }
     
+    /**
+     * Fills targets and targetWrappers with the monsters in range of a hero.
+     * Both lists are reused by the next call, so the controller and view must not keep them.
+     * @return The number of targets.
+     */
+    private int collectTargets(Hero hero) {
+        targets.clear();
+        targetWrappers.clear();
+        HeroWrapper hw = board.getHeroWrapper(hero);
+        int count = board.getEntitiesInRange(hw.getRow(), hw.getCol(), true, inRange);
+        for (int i = 0; i < count; i++) {
+            MonsterWrapper mw = (MonsterWrapper) inRange[i];
+            targetWrappers.add(mw);
+            targets.add(mw.getMonster());
+            inRange[i] = null;
+        }
+        return count;
+    }
+    
+    /**
+     * Caps a dodge chance in survival, where levels climb until both sides would dodge every attack.
+     */
+    private double capDodge(double dodgeChance) {
+        return survival ? Math.min(ValorGameConstants.SURVIVAL_MAX_DODGE_CHANCE, dodgeChance) : dodgeChance;
+    }
+    
     /**
      * Handles a monster attacking a hero.
      */
     private void monsterAttack(Monster monster, Hero hero, MonsterWrapper mw) {
         // Check hero dodge
-        double dodgeChance = hero.getAgility() * ValorGameConstants.HERO_DODGE_MULTIPLIER * hero.getDodgeDebuff();
-        if (Math.random() < dodgeChance) {
-            ValorDisplay.showDodge(hero.getName(), monster.getName());
+        double dodgeChance = capDodge(hero.getAgility() * ValorGameConstants.HERO_DODGE_MULTIPLIER * hero.getDodgeDebuff());
+        if (random.nextDouble() < dodgeChance) {
+            view.showDodge(hero.getName(), monster.getName());
             return;
         }
         
         // Calculate damage
-        SpellEffect effect = monsterDebuffs.get(monster);
-        double damageMult = (effect != null) ? effect.damageMultiplier : 1.0;
+        double damageMult = board.getMonsters().getDamageMultiplier(mw.getSlot());
         
         int baseDamage = (int)(monster.getBaseDamage() * damageMult * ValorGameConstants.DAMAGE_MULTIPLIER);
         
@@ -295,15 +427,15 @@ public class ValorBattle {
         int finalDamage = Math.max(0, baseDamage - armorReduction);
         
         // Prevent stalemate
-        if (finalDamage == 0 && Math.random() < 0.25) {
+        if (finalDamage == 0 && random.nextDouble() < 0.25) {
             finalDamage = 1;
         }
         
         hero.takeDamage(finalDamage);
-        ValorDisplay.monsterAttackResult(monster, hero, finalDamage);
+        view.monsterAttackResult(monster, hero, finalDamage);
         
         if (!hero.isAlive()) {
-            ValorDisplay.heroKilled(hero);
+            view.heroKilled(hero);
         }
     }
     
@@ -312,39 +444,30 @@ public class ValorBattle {
      * @return true if action was taken.
      */
     private boolean handleAttack(Hero hero, int heroIndex) {
-        HeroWrapper hw = board.getHeroWrapper(hero);
-        List<BoardEntity> monstersInRange = board.getEntitiesInRange(hw);
-        
-        if (monstersInRange.isEmpty()) {
-            ValorDisplay.noTargetsInRange();
+        if (collectTargets(hero) == 0) {
+            view.noTargetsInRange();
             return false;
         }
         
-        // Convert to monster list for display
-        List<Monster> targets = new ArrayList<>();
-        for (BoardEntity entity : monstersInRange) {
-            if (entity instanceof MonsterWrapper) {
-                targets.add(((MonsterWrapper) entity).getMonster());
-            }
-        }
+        view.showTargets(targets);
+        int choice = controller.chooseTarget(hero, targets);
         
-        ValorDisplay.showTargets(targets);
-        int choice = ValorInput.getTargetChoice(targets.size());
-        
-        if (choice < 0) {
-            ValorDisplay.actionCancelled();
+        if (choice < 0 || choice >= targets.size()) {
+            view.actionCancelled();
             return false;
         }
         
         Monster target = targets.get(choice);
+        MonsterWrapper targetWrapper = targetWrappers.get(choice);
         
         // Check monster dodge
-        SpellEffect effect = monsterDebuffs.get(target);
-        double dodgeMult = (effect != null) ? effect.dodgeMultiplier : 1.0;
-        double dodgeChance = target.getDodgeChance() * ValorGameConstants.MONSTER_DODGE_MULTIPLIER * dodgeMult;
+        EntityCollection monsters = board.getMonsters();
+        int slot = targetWrapper.getSlot();
+        double dodgeMult = monsters.getDodgeMultiplier(slot);
+        double dodgeChance = capDodge(target.getDodgeChance() * ValorGameConstants.MONSTER_DODGE_MULTIPLIER * dodgeMult);
         
-        if (Math.random() < dodgeChance) {
-            ValorDisplay.showDodge(target.getName(), hero.getName());
+        if (random.nextDouble() < dodgeChance) {
+            view.showDodge(target.getName(), hero.getName());
             return true;
         }
         
@@ -353,23 +476,23 @@ public class ValorBattle {
         int baseDamage = (int)((hero.getStrength() + weaponDamage) * hero.getAttackDebuff() * ValorGameConstants.DAMAGE_MULTIPLIER);
         
         // Apply defense
-        double defenseMult = (effect != null) ? effect.defenseMultiplier : 1.0;
+        double defenseMult = monsters.getDefenseMultiplier(slot);
         int actualDefense = (int)(target.getDefense() * defenseMult);
         
         int finalDamage = Math.max(0, baseDamage - actualDefense);
         
         // Prevent stalemate
-        if (finalDamage == 0 && Math.random() < 0.25) {
+        if (finalDamage == 0 && random.nextDouble() < 0.25) {
             finalDamage = 1;
         }
         
         target.takeDamage(finalDamage);
-        ValorDisplay.heroAttackResult(hero, target, finalDamage);
+        view.heroAttackResult(hero, target, finalDamage);
         
         if (!target.isAlive()) {
-            ValorDisplay.monsterKilled(target);
+            view.monsterKilled(target);
             distributeRewards(target);
-            removeDeadMonster(target);
+            removeDeadMonster(targetWrapper);
         }
         
         return true;
@@ -381,32 +504,24 @@ public class ValorBattle {
      */
     private boolean handleCastSpell(Hero hero, int heroIndex) {
         // Get available spells
-        List<Spell> availableSpells = new ArrayList<>();
-        for (Item item : hero.getInventory()) {
-            if (item instanceof Spell && item.getRequiredLevel() <= hero.getLevel()) {
-                availableSpells.add((Spell) item);
-            }
-        }
+        List<Spell> availableSpells = hero.getUsableSpells();
         
         if (availableSpells.isEmpty()) {
-            ValorDisplay.noSpellsAvailable();
+            view.noSpellsAvailable();
             return false;
         }
         
-        HeroWrapper hw = board.getHeroWrapper(hero);
-        List<BoardEntity> monstersInRange = board.getEntitiesInRange(hw);
-        
-        if (monstersInRange.isEmpty()) {
-            ValorDisplay.noTargetsInRange();
+        if (collectTargets(hero) == 0) {
+            view.noTargetsInRange();
             return false;
         }
         
         // Show spells
-        ValorDisplay.showSpells(hero, availableSpells);
-        int spellChoice = ValorInput.getSpellChoice(availableSpells.size());
+        view.showSpells(hero, availableSpells);
+        int spellChoice = controller.chooseSpell(hero, availableSpells);
         
-        if (spellChoice < 0) {
-            ValorDisplay.actionCancelled();
+        if (spellChoice < 0 || spellChoice >= availableSpells.size()) {
+            view.actionCancelled();
             return false;
         }
         
@@ -414,43 +529,33 @@ public class ValorBattle {
         
         // Check mana
         if (hero.getMp() < spell.getManaCost()) {
-            ValorDisplay.insufficientMana(spell, hero.getMp());
+            view.insufficientMana(spell, hero.getMp());
             return false;
         }
         
         // Select target
-        List<Monster> targets = new ArrayList<>();
-        for (BoardEntity entity : monstersInRange) {
-            if (entity instanceof MonsterWrapper) {
-                targets.add(((MonsterWrapper) entity).getMonster());
-            }
-        }
-        
-        ValorDisplay.showTargets(targets);
-        int targetChoice = ValorInput.getTargetChoice(targets.size());
+        view.showTargets(targets);
+        int targetChoice = controller.chooseTarget(hero, targets);
         
-        if (targetChoice < 0) {
-            ValorDisplay.actionCancelled();
+        if (targetChoice < 0 || targetChoice >= targets.size()) {
+            view.actionCancelled();
             return false;
         }
         
         Monster target = targets.get(targetChoice);
+        MonsterWrapper targetWrapper = targetWrappers.get(targetChoice);
         
         // Consume mana
         hero.setMp(hero.getMp() - spell.getManaCost());
         
         // Check dodge
-        SpellEffect effect = monsterDebuffs.get(target);
-        if (effect == null) {
-            effect = new SpellEffect();
-            monsterDebuffs.put(target, effect);
-        }
-        
-        double dodgeMult = effect.dodgeMultiplier;
-        double dodgeChance = target.getDodgeChance() * ValorGameConstants.MONSTER_DODGE_MULTIPLIER * dodgeMult;
+        EntityCollection monsters = board.getMonsters();
+        int slot = targetWrapper.getSlot();
+        double dodgeMult = monsters.getDodgeMultiplier(slot);
+        double dodgeChance = capDodge(target.getDodgeChance() * ValorGameConstants.MONSTER_DODGE_MULTIPLIER * dodgeMult);
         
-        if (Math.random() < dodgeChance) {
-            ValorDisplay.showDodge(target.getName(), hero.getName());
+        if (random.nextDouble() < dodgeChance) {
+            view.showDodge(target.getName(), hero.getName());
             return true; // Mana still consumed
         }
         
@@ -459,20 +564,20 @@ public class ValorBattle {
         int spellDamage = (int)(spell.getDamage() * spellDamageMultiplier);
         
         // Apply defense
-        int actualDefense = (int)(target.getDefense() * effect.defenseMultiplier);
+        int actualDefense = (int)(target.getDefense() * monsters.getDefenseMultiplier(slot));
         int finalDamage = Math.max(0, spellDamage - actualDefense);
         
         target.takeDamage(finalDamage);
         
         // Apply spell debuff
-        applySpellDebuff(target, spell.getType(), effect);
+        applySpellDebuff(targetWrapper, spell.getType());
         
-        ValorDisplay.showSpellCast(hero, target, spell, finalDamage);
+        view.showSpellCast(hero, target, spell, finalDamage);
         
         if (!target.isAlive()) {
-            ValorDisplay.monsterKilled(target);
+            view.monsterKilled(target);
             distributeRewards(target);
-            removeDeadMonster(target);
+            removeDeadMonster(targetWrapper);
         }
         
         // Remove spell from inventory (single use)
@@ -484,18 +589,20 @@ public class ValorBattle {
     /**
      * Applies spell debuff to monster.
      */
-    private void applySpellDebuff(Monster monster, String spellType, SpellEffect effect) {
-        effect.roundsRemaining = MonstersAndHeroesGameConstants.SPELL_DEBUFF_ROUNDS;
+    private void applySpellDebuff(MonsterWrapper mw, String spellType) {
+        debuffScheduler.schedule(getOrCreateDebuff(mw), MonstersAndHeroesGameConstants.SPELL_DEBUFF_ROUNDS);
         
+        EntityCollection monsters = board.getMonsters();
+        int slot = mw.getSlot();
         switch (spellType) {
             case MonstersAndHeroesGameConstants.SPELL_TYPE_FIRE:
-                effect.defenseMultiplier = MonstersAndHeroesGameConstants.SPELL_DEBUFF_MULTIPLIER;
+                monsters.setDefenseMultiplier(slot, MonstersAndHeroesGameConstants.SPELL_DEBUFF_MULTIPLIER);
                 break;
             case MonstersAndHeroesGameConstants.SPELL_TYPE_ICE:
-                effect.damageMultiplier = MonstersAndHeroesGameConstants.SPELL_DEBUFF_MULTIPLIER;
+                monsters.setDamageMultiplier(slot, MonstersAndHeroesGameConstants.SPELL_DEBUFF_MULTIPLIER);
                 break;
             case MonstersAndHeroesGameConstants.SPELL_TYPE_LIGHTNING:
-                effect.dodgeMultiplier = MonstersAndHeroesGameConstants.SPELL_DEBUFF_MULTIPLIER;
+                monsters.setDodgeMultiplier(slot, MonstersAndHeroesGameConstants.SPELL_DEBUFF_MULTIPLIER);
                 break;
         }
     }
@@ -505,82 +612,46 @@ public class ValorBattle {
      * @return true if action was taken.
      */
     private boolean handleUsePotion(Hero hero) {
-        List<Potion> availablePotions = new ArrayList<>();
-        for (Item item : hero.getInventory()) {
-            if (item instanceof Potion && item.getRequiredLevel() <= hero.getLevel()) {
-                availablePotions.add((Potion) item);
-            }
-        }
+        List<Potion> availablePotions = hero.getUsablePotions();
         
         if (availablePotions.isEmpty()) {
-            ValorDisplay.noPotionsAvailable();
+            view.noPotionsAvailable();
             return false;
         }
         
-        ValorDisplay.showPotions(hero, availablePotions);
-        int choice = ValorInput.getPotionChoice(availablePotions.size());
+        view.showPotions(hero, availablePotions);
+        int choice = controller.choosePotion(hero, availablePotions);
         
-        if (choice < 0) {
-            ValorDisplay.actionCancelled();
+        if (choice < 0 || choice >= availablePotions.size()) {
+            view.actionCancelled();
             return false;
         }
         
         Potion potion = availablePotions.get(choice);
-        applyPotion(hero, potion);
+        hero.drinkPotion(potion);
         hero.getInventory().remove(potion);
-        ValorDisplay.showPotionUsed(hero, potion);
+        view.showPotionUsed(hero, potion);
         
         return true;
     }
     
-    /**
-     * Applies potion effect to hero.
-     */
-    private void applyPotion(Hero hero, Potion potion) {
-        String attribute = potion.getAttributeAffected();
-        int increase = potion.getAttributeIncrease();
-        
-        if (attribute.contains("Health") || attribute.contains("All")) {
-            int newHp = Math.min(hero.getHp() + increase, hero.getMaxHp());
-            hero.setHp(newHp);
-        }
-        if (attribute.contains("Mana") || attribute.contains("All")) {
-            int newMp = Math.min(hero.getMp() + increase, hero.getMaxMp());
-            hero.setMp(newMp);
-        }
-        if (attribute.contains("Strength") || attribute.contains("All")) {
-            hero.setStrength(hero.getStrength() + increase);
-        }
-        if (attribute.contains("Dexterity") || attribute.contains("All")) {
-            hero.setDexterity(hero.getDexterity() + increase);
-        }
-        if (attribute.contains("Agility") || attribute.contains("All")) {
-            hero.setAgility(hero.getAgility() + increase);
-        }
-    }
-    
     /**
      * Handles hero equip item action.
      * @return true if action was taken.
      */
     private boolean handleEquip(Hero hero) {
-        List<Item> equippableItems = new ArrayList<>();
-        for (Item item : hero.getInventory()) {
-            if ((item instanceof Weapon || item instanceof Armor) && item.getRequiredLevel() <= hero.getLevel()) {
-                equippableItems.add(item);
-            }
-        }
+        List<Item> equippableItems = hero.getUsableEquipment();
         
         if (equippableItems.isEmpty()) {
-            ValorDisplay.noEquippableItems();
+            view.noEquippableItems();
             return false;
         }
         
-        ValorDisplay.showEquippableItems(hero, equippableItems);
-        int choice = ValorInput.getEquipChoice(equippableItems.size());
+        view.showEquippableItems(hero, equippableItems);
+        int choice = controller.chooseEquipment(hero, equippableItems);
         
-        if (choice < 0) {
-            ValorDisplay.actionCancelled();
+        if (choice < 0 || choice >= equippableItems.size()) {
+            view.actionCancelled();
             return false;
         }
         
@@ -602,7 +673,7 @@ public class ValorBattle {
             hero.getInventory().remove(item);
         }
         
-        ValorDisplay.showItemEquipped(hero, item);
+        view.showItemEquipped(hero, item);
         return true;
     }
     
@@ -611,10 +682,10 @@ public class ValorBattle {
      * @return true if action was taken.
      */
     private boolean handleMove(Hero hero) {
-        char direction = ValorInput.getMovementDirection();
+        char direction = controller.chooseDirection(board, hero);
         
         if (direction == 'X') {
-            ValorDisplay.actionCancelled();
+            view.actionCancelled();
             return false;
         }
         
@@ -629,7 +700,7 @@ public class ValorBattle {
         }
         
         boolean success = board.moveHero(hero, boardDirection);
-        ValorDisplay.showMoveResult(hero, success, direction);
+        view.showMoveResult(hero, success, direction);
         
         return success;
     }
@@ -640,7 +711,7 @@ public class ValorBattle {
      */
     private boolean handleTeleport(Hero hero, int heroIndex) {
         HeroWrapper hw = board.getHeroWrapper(hero);
-        int heroLane = ValorBoardUtilities.getLaneForColumn(hw.getCol());
+        int heroLane = board.getLaneForColumn(hw.getCol());
         
         // Find heroes in other lanes
         List<Hero> validTargets = new ArrayList<>();
@@ -653,7 +724,7 @@ public class ValorBattle {
             if (!otherHero.isAlive()) continue;
             
             HeroWrapper otherHw = board.getHeroWrapper(otherHero);
-            int otherLane = ValorBoardUtilities.getLaneForColumn(otherHw.getCol());
+            int otherLane = board.getLaneForColumn(otherHw.getCol());
             
             if (otherLane != heroLane && otherLane != ValorBoardConstants.INVALID_LANE) {
                 validTargets.add(otherHero);
@@ -662,21 +733,21 @@ public class ValorBattle {
         }
         
         if (validTargets.isEmpty()) {
-            ValorDisplay.cannotTeleport("No valid heroes in other lanes.");
+            view.cannotTeleport("No valid heroes in other lanes.");
             return false;
         }
         
-        ValorDisplay.showHeroesForTeleport(hero, validTargets, targetIndices);
-        int choice = ValorInput.getHeroSelection(validTargets.size());
+        view.showHeroesForTeleport(hero, validTargets, targetIndices);
+        int choice = controller.chooseTeleportTarget(hero, validTargets);
         
-        if (choice < 0) {
-            ValorDisplay.actionCancelled();
+        if (choice < 0 || choice >= validTargets.size()) {
+            view.actionCancelled();
             return false;
         }
         
         Hero targetHero = validTargets.get(choice);
         boolean success = board.teleport(hero, targetHero);
-        ValorDisplay.showTeleportResult(hero, targetHero, success);
+        view.showTeleportResult(hero, targetHero, success);
         
         return success;
     }
@@ -687,30 +758,24 @@ public class ValorBattle {
      */
     private boolean handleRecall(Hero hero) {
         boolean success = board.recall(hero);
-        ValorDisplay.showRecallResult(hero, success);
+        view.showRecallResult(hero, success);
         return success;
     }
     
     /**
-     * Handles market access (doesn't consume action).
+     * Handles market access through the controller (doesn't consume action).
      */
     private void handleMarket(Hero hero) {
         HeroWrapper hw = board.getHeroWrapper(hero);
         ValorTile tile = board.getTile(hw.getRow(), hw.getCol());
         
-        if (tile.getState() instanceof board.valor.tiletypes.NexusTile) {
-            board.valor.tiletypes.NexusTile nexus = (board.valor.tiletypes.NexusTile) tile.getState();
-            if (nexus.isHeroesNexus()) {
-                // Create single-hero list for market compatibility
-                List<Hero> singleHero = new ArrayList<>();
-                singleHero.add(hero);
-                Market market = new Market();
-                market.enter(singleHero);
-            } else {
-                ValorDisplay.notAtNexus();
+        if (tile.getState().isHeroesNexus()) {
+            if (market == null) {
+                market = new Market();
             }
+            controller.visitMarket(hero, market, view);
         } else {
-            ValorDisplay.notAtNexus();
+            view.notAtNexus();
         }
     }
     
@@ -730,15 +795,14 @@ public class ValorBattle {
             int newRow = row + dir[0];
             int newCol = col + dir[1];
             
-            ValorTile tile = board.getTile(newRow, newCol);
-            if (tile != null && tile.getState().isRemovable()) {
+            if (board.hasObstacleAt(newRow, newCol)) {
                 board.removeObstacle(newRow, newCol);
-                ValorDisplay.showObstacleRemoved(hero);
+                view.showObstacleRemoved(hero);
                 return true;
             }
         }
         
-        ValorDisplay.noAdjacentObstacle();
+        view.noAdjacentObstacle();
         return false;
     }
     
@@ -746,10 +810,11 @@ public class ValorBattle {
      * End of round processing: regeneration and debuff countdown.
      */
     private void endOfRound() {
-        ValorDisplay.showRegeneration();
+        view.showRegeneration();
         
-        // Regenerate HP and MP for alive heroes
-        for (Hero hero : heroes) {
+        // Regenerate HP and MP for alive heroes (indexed: no iterator on the per-round path)
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero hero = heroes.get(i);
             if (hero.isAlive()) {
                 int hpRegen = Math.max(1, (int)(hero.getHp() * ValorGameConstants.HP_REGEN_PERCENTAGE));
                 int mpRegen = Math.max(1, (int)(hero.getMp() * ValorGameConstants.MP_REGEN_PERCENTAGE));
@@ -759,71 +824,93 @@ public class ValorBattle {
             }
         }
         
-        // Decrement debuff durations
-        Iterator<Map.Entry<Monster, SpellEffect>> iterator = monsterDebuffs.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<Monster, SpellEffect> entry = iterator.next();
-            SpellEffect effect = entry.getValue();
-            
-            if (effect.roundsRemaining > 0) {
-                effect.roundsRemaining--;
-                if (effect.roundsRemaining <= 0) {
-                    effect.damageMultiplier = 1.0;
-                    effect.defenseMultiplier = 1.0;
-                    effect.dodgeMultiplier = 1.0;
-                }
-            }
-        }
+        // Expire debuffs that run out this round
+        debuffScheduler.advance();
     }
     
     /**
      * Spawns new monsters in each lane.
      */
     public void spawnMonsters() {
+        if (survival) {
+            spawnSurvivalWave();
+            return;
+        }
         int monsterLevel = getHighestHeroLevel();
         
-        List<String[]> dragonData = DataLoader.readData("Dragons.txt");
-        List<String[]> exoskeletonData = DataLoader.readData("Exoskeletons.txt");
-        List<String[]> spiritData = DataLoader.readData("Spirits.txt");
-        
         int spawned = 0;
         
-        for (int lane = 0; lane < ValorGameConstants.NUM_LANES; lane++) {
+        for (int lane = 0; lane < board.getLaneCount(); lane++) {
             monsterCounter++;
-            Monster monster = createRandomMonster(dragonData, exoskeletonData, spiritData, monsterLevel);
+            Monster monster = MonsterFactory.createRandomMonster(monsterLevel, random);
             
             board.spawnMonster(monster, monsterCounter, lane);
-            monsterDebuffs.put(monster, new SpellEffect());
             spawned++;
         }
         
-        ValorDisplay.monstersSpawned(spawned);
+        view.monstersSpawned(spawned);
     }
     
     /**
-     * Creates a random monster.
+     * Spawns the next survival wave. Every few waves add a monster per lane and a level,
+     * up to SURVIVAL_MAX_MONSTER_LEVEL.
+     * Monsters that find their lane's nexus full wait in the lane's queue and come out,
+     * at the level of the wave then current, as soon as a nexus tile frees up.
      */
-    private Monster createRandomMonster(List<String[]> dragons, List<String[]> exos, List<String[]> spirits, int level) {
-        double random = Math.random();
-        
-        if (random < Percentages.DRAGON) {
-            String[] data = dragons.get((int)(Math.random() * dragons.size()));
-            return MonsterFactory.createMonster("Dragon", data, level);
-        } else if (random < Percentages.DRAGON + Percentages.EXOSKELETON) {
-            String[] data = exos.get((int)(Math.random() * exos.size()));
-            return MonsterFactory.createMonster("Exoskeleton", data, level);
-        } else {
-            String[] data = spirits.get((int)(Math.random() * spirits.size()));
-            return MonsterFactory.createMonster("Spirit", data, level);
+    private void spawnSurvivalWave() {
+        wave++;
+        int perLane = 1 + wave / ValorGameConstants.SURVIVAL_WAVES_PER_EXTRA_MONSTER;
+        for (int lane = 0; lane < pendingSpawns.length; lane++) {
+            pendingSpawns[lane] += perLane;
+        }
+        view.monstersSpawned(spawnPending());
+    }
+    
+    /**
+     * Spawns queued survival monsters into every lane with a free nexus tile.
+     * A monster is only created once a tile is known to be free.
+     * @return The number of monsters spawned.
+     */
+    private int spawnPending() {
+        int monsterLevel = Math.min(ValorGameConstants.SURVIVAL_MAX_MONSTER_LEVEL,
+                getHighestHeroLevel() + wave / ValorGameConstants.SURVIVAL_WAVES_PER_LEVEL);
+        int spawned = 0;
+        for (int lane = 0; lane < pendingSpawns.length; lane++) {
+            while (pendingSpawns[lane] > 0 && board.canSpawnMonster(lane)) {
+                Monster monster = MonsterFactory.createRandomMonster(monsterLevel, random);
+                if (!board.trySpawnMonster(monster, monsterCounter + 1, lane)) {
+                    break;
+                }
+                monsterCounter++;
+                pendingSpawns[lane]--;
+                spawned++;
+            }
         }
+        return spawned;
     }
     
+    /**
+     * In survival mode, removes a monster that reached the heroes' Nexus if breaches remain.
+     * @return true if the breach was absorbed and the game goes on.
+     */
+    private boolean absorbBreach(MonsterWrapper mw) {
+        if (!survival || breaches >= breachesAllowed) {
+            return false;
+        }
+        breaches++;
+        board.removeEntity(mw);
+        view.nexusBreached(mw.getMonster(), breachesAllowed - breaches);
+        return true;
+    }
+    
+    
     /**
      * Gets the highest level among heroes.
      */
     private int getHighestHeroLevel() {
         int maxLevel = 1;
-        for (Hero hero : heroes) {
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero hero = heroes.get(i);
             if (hero.getLevel() > maxLevel) {
                 maxLevel = hero.getLevel();
             }
@@ -838,27 +925,26 @@ public class ValorBattle {
         int gold = monster.getLevel() * ValorGameConstants.GOLD_PER_MONSTER_LEVEL;
         int exp = monster.getLevel() * ValorGameConstants.EXP_PER_MONSTER_LEVEL;
         
-        ValorDisplay.showRewards(gold, exp);
+        view.showRewards(gold, exp);
         
-        for (Hero hero : heroes) {
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero hero = heroes.get(i);
             hero.setGold(hero.getGold() + gold);
+            int oldLevel = hero.getLevel();
             hero.addExperience(exp);
+            if (hero.getLevel() != oldLevel) {
+                view.heroLeveledUp(hero, oldLevel, hero.getLevel());
+            }
         }
     }
     
     /**
      * Removes a dead monster from the board.
      */
-    private void removeDeadMonster(Monster monster) {
-        for (BoardEntity entity : board.getMonsters()) {
-            if (entity instanceof MonsterWrapper) {
-                MonsterWrapper mw = (MonsterWrapper) entity;
-                if (mw.getMonster() == monster) {
-                    board.removeEntity(entity);
-                    break;
-                }
-            }
-        }
+    private void removeDeadMonster(MonsterWrapper mw) {
+        monstersKilled++;
+        // Releasing the slot also drops the monster's debuff
+        board.removeEntity(mw);
     }
     
     /**
@@ -869,28 +955,10 @@ public class ValorBattle {
         hero.setHp(hero.getMaxHp());
         hero.setMp(hero.getMaxMp());
         
-        // Respawn at nexus (handled by recall mechanism, but we need to place them back)
-        int lane = heroLanes.get(heroIndex);
-        int[] columns = ValorBoardUtilities.getColumnsForLane(lane);
-        int spawnRow = ValorBoardConstants.BOARD_SIZE - ValorBoardConstants.HEROES_NEXUS_ROW_OFFSET;
-        int spawnCol = columns[ValorBoardConstants.SPAWN_COLUMN_INDEX_0];
-        
-        HeroWrapper hw = board.getHeroWrapper(hero);
-        
-        // Remove from current position if still there
-        ValorTile oldTile = board.getTile(hw.getRow(), hw.getCol());
-        if (oldTile != null) {
-            oldTile.removeHero();
-        }
+        // Respawn at the nexus tile the hero originally spawned on
+        board.respawnHero(hero);
         
-        // Place at nexus
-        ValorTile nexusTile = board.getTile(spawnRow, spawnCol);
-        if (nexusTile != null && !nexusTile.hasHero()) {
-            nexusTile.placeHero(hero);
-            hw.setPosition(spawnRow, spawnCol);
-        }
-        
-        ValorDisplay.heroRespawned(hero);
+        view.heroRespawned(hero);
     }
     
     /**
@@ -898,15 +966,11 @@ public class ValorBattle {
      * @return true if heroes won.
      */
     public boolean checkVictory() {
-        for (Hero hero : heroes) {
-            if (!hero.isAlive()) continue;
-            
-            HeroWrapper hw = board.getHeroWrapper(hero);
-            if (hw.getRow() == ValorGameConstants.MONSTERS_NEXUS_ROW) {
-                return true;
-            }
+        // Survival has no victory row
+        if (survival) {
+            return false;
         }
-        return false;
+        return board.isMonstersNexusReached();
     }
     
     /**
@@ -914,14 +978,7 @@ public class ValorBattle {
      * @return true if monsters won.
      */
     public boolean checkDefeat() {
-        for (BoardEntity entity : board.getMonsters()) {
-            if (!entity.isAlive()) continue;
-            
-            if (entity.getRow() >= ValorGameConstants.HEROES_NEXUS_ROW) {
-                return true;
-            }
-        }
-        return false;
+        return board.isHeroesNexusReached();
     }
     
     /**
@@ -938,10 +995,58 @@ public class ValorBattle {
         return heroesWon;
     }
     
+    /**
+     * Gets the board this battle is played on.
+     */
+    public ValorBoard getBoard() {
+        return board;
+    }
+    
     /**
      * Gets the current round number.
      */
     public int getCurrentRound() {
         return currentRound;
     }
+
+    /**
+     * Returns whether the battle is in survival mode.
+     */
+    public boolean isSurvival() {
+        return survival;
+    }
+    
+    /**
+     * Gets the number of survival waves spawned so far.
+     */
+    public int getWave() {
+        return wave;
+    }
+    
+    /**
+     * Gets the number of survival monsters queued behind full nexus tiles.
+     */
+    public long getPendingSpawns() {
+        long pending = 0;
+        if (pendingSpawns != null) {
+            for (long lanePending : pendingSpawns) {
+                pending += lanePending;
+            }
+        }
+        return pending;
+    }
+    
+    /**
+     * Gets the number of survival-mode breaches absorbed so far.
+     */
+    public int getBreaches() {
+        return breaches;
+    }
+    
+    /**
+     * Gets the number of monsters the heroes have killed so far.
+     */
+    public int getMonstersKilled() {
+        return monstersKilled;
+    }
 }
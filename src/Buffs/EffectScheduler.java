@@ -0,0 +1,137 @@
+/**
+ * Filename: EffectScheduler.java
+ * Author: Olivia Ma
+ * Date: 2025-Dec
+ * Description: Hashed timing wheel that expires buffs and debuffs at the end of the round they run out.
+ */
+
+package Buffs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Expires timed effects by round. Effects are bucketed by expiry round in a ring of slots
+ * (a hashed timing wheel), so advancing a round only visits the slot for that round
+ * instead of counting down every active effect. Effects longer than the wheel stay in
+ * their slot and are skipped until their lap comes round.
+ * Scheduling, rescheduling and cancelling are O(1).
+ */
+public class EffectScheduler {
+    private static final int DEFAULT_SLOTS = 64;
+
+    private final TimedEffect[] slots;
+    private final int mask;
+    private long currentRound;
+    private int size;
+    // Reused by advance() so expiring a round allocates nothing
+    private final List<TimedEffect> expiring = new ArrayList<>();
+
+    public EffectScheduler() {
+        this(DEFAULT_SLOTS);
+    }
+
+    /**
+     * Creates a scheduler whose wheel has at least the given number of slots.
+     * @param minSlots Rounds covered by one turn of the wheel; rounded up to a power of two.
+     */
+    public EffectScheduler(int minSlots) {
+        int slotCount = Integer.highestOneBit(Math.max(1, minSlots - 1)) << 1;
+        this.slots = new TimedEffect[slotCount];
+        this.mask = slotCount - 1;
+    }
+
+    /**
+     * Schedules an effect to expire after the given number of rounds. An effect that is
+     * already scheduled (here or on another scheduler) is moved, which refreshes its duration.
+     * @param effect The effect.
+     * @param rounds Rounds until it expires; 0 or less expires it on the next advance.
+     */
+    public void schedule(TimedEffect effect, int rounds) {
+        if (effect.scheduler != null) {
+            effect.scheduler.cancel(effect);
+        }
+        effect.scheduler = this;
+        effect.expiryRound = currentRound + Math.max(1, rounds);
+
+        int slot = (int) (effect.expiryRound & mask);
+        effect.prev = null;
+        effect.next = slots[slot];
+        if (slots[slot] != null) {
+            slots[slot].prev = effect;
+        }
+        slots[slot] = effect;
+        size++;
+    }
+
+    /**
+     * Removes an effect without expiring it, e.g. when its target leaves the game.
+     * @return true if the effect was scheduled here.
+     */
+    public boolean cancel(TimedEffect effect) {
+        if (effect.scheduler != this) {
+            return false;
+        }
+        unlink(effect);
+        return true;
+    }
+
+    /**
+     * Ends the current round, expiring every effect that runs out in it.
+     * @return The number of effects expired.
+     */
+    public int advance() {
+        currentRound++;
+        int slot = (int) (currentRound & mask);
+
+        // Unlink everything due first, so expire() may schedule or cancel freely
+        TimedEffect effect = slots[slot];
+        while (effect != null) {
+            TimedEffect next = effect.next;
+            if (effect.expiryRound == currentRound) {
+                unlink(effect);
+                expiring.add(effect);
+            }
+            effect = next;
+        }
+
+        int expired = 0;
+        for (int i = 0; i < expiring.size(); i++) {
+            TimedEffect due = expiring.get(i);
+            // Skip effects an earlier expire() rescheduled
+            if (due.scheduler == null) {
+                due.expire();
+                expired++;
+            }
+        }
+        expiring.clear();
+        return expired;
+    }
+
+    public long getCurrentRound() {
+        return currentRound;
+    }
+
+    /**
+     * Gets the number of effects waiting to expire.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void unlink(TimedEffect effect) {
+        int slot = (int) (effect.expiryRound & mask);
+        if (effect.prev == null) {
+            slots[slot] = effect.next;
+        } else {
+            effect.prev.next = effect.next;
+        }
+        if (effect.next != null) {
+            effect.next.prev = effect.prev;
+        }
+        effect.prev = null;
+        effect.next = null;
+        effect.scheduler = null;
+        size--;
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Filename: TimedEffect.java
+ * Author: Olivia Ma
+ * Date: 2025-Dec
+ * Description: Base class for buffs and debuffs that run out after a number of rounds.
+ */
+
+package Buffs;
+
+/**
+ * An effect an EffectScheduler can expire. Subclasses hold whatever the effect changes
+ * and undo it in expire(). The scheduler links effects into its wheel through the fields
+ * here, so scheduling and cancelling allocate nothing.
+ */
+public abstract class TimedEffect {
+    // Owned by EffectScheduler
+    EffectScheduler scheduler;
+    long expiryRound;
+    TimedEffect prev;
+    TimedEffect next;
+
+    /**
+     * Called by the scheduler in the round the effect runs out.
+     */
+    protected abstract void expire();
+
+    /**
+     * Checks whether the effect is waiting to expire.
+     */
+    public boolean isScheduled() {
+        return scheduler != null;
+    }
+
+    /**
+     * Gets the number of rounds until the effect expires.
+     * @return The rounds remaining, or 0 if the effect is not scheduled.
+     */
+    public int getRoundsRemaining() {
+        return scheduler == null ? 0 : (int) (expiryRound - scheduler.getCurrentRound());
+    }
+}
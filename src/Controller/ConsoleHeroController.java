@@ -0,0 +1,67 @@
+/**
+ * Filename: ConsoleHeroController.java
+ * Author: Gowrav
+ * Date: 2025-Dec
+ * Description: HeroController that asks the player at the terminal through ValorInput.
+ */
+
+package Controller;
+
+import Player.Heroes.Hero;
+import Player.Monsters.Monster;
+import Items.*;
+import Display.Valor.ValorInput;
+import Display.Valor.ValorView;
+import Market.Market;
+import board.valor.ValorBoard;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Interactive controller: every decision is read from the console.
+ */
+public class ConsoleHeroController implements HeroController {
+    @Override
+    public char chooseAction(ValorBoard board, Hero hero, int heroIndex, int attempt) {
+        return ValorInput.getHeroAction();
+    }
+
+    @Override
+    public int chooseTarget(Hero hero, List<Monster> targets) {
+        return ValorInput.getTargetChoice(targets.size());
+    }
+
+    @Override
+    public int chooseSpell(Hero hero, List<Spell> spells) {
+        return ValorInput.getSpellChoice(spells.size());
+    }
+
+    @Override
+    public int choosePotion(Hero hero, List<Potion> potions) {
+        return ValorInput.getPotionChoice(potions.size());
+    }
+
+    @Override
+    public int chooseEquipment(Hero hero, List<Item> items) {
+        return ValorInput.getEquipChoice(items.size());
+    }
+
+    @Override
+    public char chooseDirection(ValorBoard board, Hero hero) {
+        return ValorInput.getMovementDirection();
+    }
+
+    @Override
+    public int chooseTeleportTarget(Hero hero, List<Hero> candidates) {
+        return ValorInput.getHeroSelection(candidates.size());
+    }
+
+    /**
+     * Opens the market menu for this hero alone.
+     */
+    @Override
+    public void visitMarket(Hero hero, Market market, ValorView view) {
+        market.enter(Collections.singletonList(hero));
+    }
+}
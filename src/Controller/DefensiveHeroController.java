@@ -0,0 +1,31 @@
+/**
+ * Filename: DefensiveHeroController.java
+ * Author: Gowrav
+ * Date: 2025-Dec
+ * Description: Bot that holds its position and only fights what comes into range.
+ */
+
+package Controller;
+
+import Player.Heroes.Hero;
+import Wrapper.HeroWrapper;
+import board.valor.ValorBoard;
+
+/**
+ * GreedyHeroController that never advances: it attacks, casts and drinks potions the same
+ * way, but passes instead of moving or clearing obstacles, and does not shop. Heroes stay at
+ * their nexus with the gear they started with and meet each wave there, which suits survival
+ * games and long soak runs.
+ */
+public class DefensiveHeroController extends GreedyHeroController {
+    @Override
+    public char chooseAction(ValorBoard board, Hero hero, int heroIndex, int attempt) {
+        char action = super.chooseAction(board, hero, heroIndex, attempt);
+        return (action == 'M' || action == 'O') ? 'X' : action;
+    }
+
+    @Override
+    protected boolean wantsToShop(ValorBoard board, Hero hero, HeroWrapper hw) {
+        return false;
+    }
+}
@@ -0,0 +1,241 @@
+/**
+ * Filename: GreedyHeroController.java
+ * Author: Gowrav
+ * Date: 2025-Dec
+ * Description: Simple bot that fights whatever is in range and otherwise pushes toward the monsters' nexus.
+ */
+
+package Controller;
+
+import Player.Heroes.Hero;
+import Player.Monsters.Monster;
+import Items.*;
+import Wrapper.HeroWrapper;
+import Display.Valor.ValorView;
+import Market.Market;
+import Market.MarketCatalog;
+import board.valor.ValorBoard;
+import board.valor.ValorTile;
+
+import java.util.List;
+
+/**
+ * Rule-based bot used for headless games:
+ * casts its strongest affordable spell or attacks when a monster is in range,
+ * drinks a potion when low on health, equips a better weapon or armor it carries,
+ * and otherwise moves north. When the move is blocked it tries to clear an obstacle,
+ * then sidesteps, then passes. On its nexus it first buys the strongest weapon and
+ * armor it can use and afford, if they beat what it already has.
+ */
+public class GreedyHeroController implements HeroController {
+    private static final double LOW_HEALTH = 0.4;
+
+    private char nextDirection = 'W';
+    // 1 when this turn opened with a market visit, which does not use up the turn
+    private int attemptOffset;
+
+    @Override
+    public char chooseAction(ValorBoard board, Hero hero, int heroIndex, int attempt) {
+        HeroWrapper hw = board.getHeroWrapper(hero);
+        if (attempt == 0) {
+            attemptOffset = 0;
+            if (hw != null && wantsToShop(board, hero, hw)) {
+                attemptOffset = 1;
+                return 'B';
+            }
+        }
+        boolean monsterInRange = hw != null && board.hasEntitiesInRange(hw);
+
+        switch (attempt - attemptOffset) {
+            case 0:
+                if (monsterInRange) {
+                    return bestSpell(hero, usableSpells(hero)) >= 0 ? 'C' : 'A';
+                }
+                if (hero.getHp() < hero.getMaxHp() * LOW_HEALTH && hasUsable(hero, ItemCategory.POTION)) {
+                    return 'P';
+                }
+                if (bestEquipment(hero, hero.getUsableEquipment()) >= 0) {
+                    return 'E';
+                }
+                nextDirection = 'W';
+                return 'M';
+            case 1:
+                return monsterInRange ? 'A' : 'O';
+            case 2:
+                nextDirection = 'A';
+                return 'M';
+            case 3:
+                nextDirection = 'D';
+                return 'M';
+            default:
+                return 'X';
+        }
+    }
+
+    /**
+     * Targets the monster with the least health left.
+     */
+    @Override
+    public int chooseTarget(Hero hero, List<Monster> targets) {
+        int best = -1;
+        for (int i = 0; i < targets.size(); i++) {
+            if (best < 0 || targets.get(i).getHp() < targets.get(best).getHp()) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public int chooseSpell(Hero hero, List<Spell> spells) {
+        return bestSpell(hero, spells);
+    }
+
+    /**
+     * Picks the potion with the largest increase.
+     */
+    @Override
+    public int choosePotion(Hero hero, List<Potion> potions) {
+        int best = -1;
+        for (int i = 0; i < potions.size(); i++) {
+            if (best < 0 || potions.get(i).getAttributeIncrease() > potions.get(best).getAttributeIncrease()) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public int chooseEquipment(Hero hero, List<Item> items) {
+        return bestEquipment(hero, items);
+    }
+
+    @Override
+    public char chooseDirection(ValorBoard board, Hero hero) {
+        return nextDirection;
+    }
+
+    @Override
+    public int chooseTeleportTarget(Hero hero, List<Hero> candidates) {
+        return -1;
+    }
+
+    /**
+     * Buys the strongest weapon, then the strongest armor, the hero can use and afford,
+     * if it beats what the hero already has.
+     */
+    @Override
+    public void visitMarket(Hero hero, Market market, ValorView view) {
+        buyUpgrade(hero, market, view, ItemCategory.WEAPON);
+        buyUpgrade(hero, market, view, ItemCategory.ARMOR);
+    }
+
+    /**
+     * Checks whether the hero stands on their nexus and the market has a weapon or armor
+     * worth buying. The catalog's cheapest-at-or-above index rules most turns out without
+     * building a list.
+     */
+    protected boolean wantsToShop(ValorBoard board, Hero hero, HeroWrapper hw) {
+        ValorTile tile = board.getTile(hw.getRow(), hw.getCol());
+        if (tile == null || !tile.getState().isHeroesNexus()) {
+            return false;
+        }
+        MarketCatalog catalog = MarketCatalog.getInstance();
+        Item weapon = catalog.getCheapestWeapon(bestOwned(hero, ItemCategory.WEAPON) + 1);
+        if (weapon != null && weapon.getPrice() <= hero.getGold() && findUpgrade(catalog, hero, ItemCategory.WEAPON) != null) {
+            return true;
+        }
+        Item armor = catalog.getCheapestArmor(bestOwned(hero, ItemCategory.ARMOR) + 1);
+        return armor != null && armor.getPrice() <= hero.getGold() && findUpgrade(catalog, hero, ItemCategory.ARMOR) != null;
+    }
+
+    private void buyUpgrade(Hero hero, Market market, ValorView view, ItemCategory category) {
+        Item upgrade = findUpgrade(market.getCatalog(), hero, category);
+        if (upgrade != null && market.buy(hero, upgrade)) {
+            view.showItemBought(hero, upgrade);
+        }
+    }
+
+    /**
+     * Gets the strongest item of a category the hero can use and afford, or null if it is
+     * no stronger than the best one they own.
+     */
+    private static Item findUpgrade(MarketCatalog catalog, Hero hero, ItemCategory category) {
+        Item best = null;
+        int bestStat = bestOwned(hero, category);
+        for (Item item : catalog.getUsableAffordableItems(category, hero.getLevel(), hero.getGold())) {
+            if (stat(item) > bestStat) {
+                best = item;
+                bestStat = stat(item);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the damage (weapons) or damage reduction (armor) of the best item of a category
+     * the hero has equipped or carries, or 0 if they have none.
+     */
+    private static int bestOwned(Hero hero, ItemCategory category) {
+        Item equipped = (category == ItemCategory.WEAPON) ? hero.getEquippedWeapon() : hero.getEquippedArmor();
+        int best = (equipped == null) ? 0 : stat(equipped);
+        List<Item> carried = hero.getUsableEquipment();
+        for (int i = 0; i < carried.size(); i++) {
+            if (ItemCategory.of(carried.get(i)) == category) {
+                best = Math.max(best, stat(carried.get(i)));
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Index of the carried weapon or armor that improves most on what is equipped, or -1.
+     */
+    private static int bestEquipment(Hero hero, List<Item> items) {
+        int best = -1;
+        int bestGain = 0;
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            Item equipped = (item instanceof Weapon) ? hero.getEquippedWeapon() : hero.getEquippedArmor();
+            int gain = stat(item) - (equipped == null ? 0 : stat(equipped));
+            if (gain > bestGain) {
+                best = i;
+                bestGain = gain;
+            }
+        }
+        return best;
+    }
+
+    private static int stat(Item item) {
+        if (item instanceof Weapon) {
+            return ((Weapon) item).getDamage();
+        }
+        if (item instanceof Armor) {
+            return ((Armor) item).getDamageReduction();
+        }
+        return 0;
+    }
+
+    /**
+     * Index of the highest-damage spell the hero can afford, or -1.
+     */
+    private int bestSpell(Hero hero, List<Spell> spells) {
+        int best = -1;
+        for (int i = 0; i < spells.size(); i++) {
+            Spell spell = spells.get(i);
+            if (spell.getManaCost() <= hero.getMp()
+                    && (best < 0 || spell.getDamage() > spells.get(best).getDamage())) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private List<Spell> usableSpells(Hero hero) {
+        return hero.getUsableSpells();
+    }
+
+    private boolean hasUsable(Hero hero, ItemCategory category) {
+        return hero.getInventory().hasUsable(category, hero.getLevel());
+    }
+}
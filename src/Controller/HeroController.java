@@ -0,0 +1,58 @@
+/**
+ * Filename: HeroController.java
+ * Author: Gowrav
+ * Date: 2025-Dec
+ * Description: Interface for whatever decides hero actions in Legends of Valor (a player or a bot).
+ */
+
+package Controller;
+
+import Player.Heroes.Hero;
+import Player.Monsters.Monster;
+import Items.*;
+import Market.Market;
+import Display.Valor.ValorView;
+import board.valor.ValorBoard;
+
+import java.util.List;
+
+/**
+ * Supplies the decisions ValorBattle needs during a hero's turn. Return values follow
+ * the ValorInput conventions: action and direction characters are upper case, choices are
+ * 0-based list indices, and -1 (or 'X' for a direction) cancels the current action.
+ *
+ * ValorBattle keeps asking chooseAction until an action succeeds, so a non-interactive
+ * controller must eventually return 'X' (pass) when nothing else works.
+ */
+public interface HeroController {
+    /**
+     * Chooses the hero's next action: M, A, C, P, E, T, R, B, O, I, X or Q.
+     * @param board The game board.
+     * @param hero The hero taking the turn.
+     * @param heroIndex The hero's 0-based position in the party.
+     * @param attempt How many actions have already failed this turn.
+     */
+    char chooseAction(ValorBoard board, Hero hero, int heroIndex, int attempt);
+
+    int chooseTarget(Hero hero, List<Monster> targets);
+
+    int chooseSpell(Hero hero, List<Spell> spells);
+
+    int choosePotion(Hero hero, List<Potion> potions);
+
+    int chooseEquipment(Hero hero, List<Item> items);
+
+    /**
+     * Chooses a movement direction as W, A, S or D, or X to cancel.
+     */
+    char chooseDirection(ValorBoard board, Hero hero);
+
+    int chooseTeleportTarget(Hero hero, List<Hero> candidates);
+
+    /**
+     * Shops for a hero standing on their nexus (action B). Interactive controllers open the
+     * market menu; others must not read the console, and buy through market.buy, reporting
+     * each purchase to the view.
+     */
+    void visitMarket(Hero hero, Market market, ValorView view);
+}
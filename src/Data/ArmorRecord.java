@@ -0,0 +1,57 @@
+/**
+ * Filename: ArmorRecord.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Typed row of Armory.txt.
+ */
+
+package Data;
+
+import Items.Armor;
+
+/**
+ * Immutable armor catalog entry: name, cost, required level and damage reduction.
+ */
+public final class ArmorRecord {
+    private final String name;
+    private final int price;
+    private final int requiredLevel;
+    private final int damageReduction;
+
+    public ArmorRecord(String name, int price, int requiredLevel, int damageReduction) {
+        this.name = name;
+        this.price = price;
+        this.requiredLevel = requiredLevel;
+        this.damageReduction = damageReduction;
+    }
+
+    /**
+     * Parses one tokenized data row.
+     */
+    public static ArmorRecord parse(String[] row) {
+        return new ArmorRecord(row[0], Integer.parseInt(row[1]), Integer.parseInt(row[2]), Integer.parseInt(row[3]));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public int getRequiredLevel() {
+        return requiredLevel;
+    }
+
+    public int getDamageReduction() {
+        return damageReduction;
+    }
+
+    /**
+     * Creates a new armor item from this entry.
+     */
+    public Armor toItem() {
+        return new Armor(name, price, requiredLevel, damageReduction);
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Filename: HeroRecord.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Typed row of Warriors.txt, Sorcerers.txt and Paladins.txt.
+ */
+
+package Data;
+
+/**
+ * Immutable hero data entry: name, mana, strength, agility, dexterity, starting gold and experience.
+ */
+public final class HeroRecord {
+    private final String name;
+    private final int mana;
+    private final int strength;
+    private final int agility;
+    private final int dexterity;
+    private final int startingMoney;
+    private final int startingExperience;
+
+    public HeroRecord(String name, int mana, int strength, int agility, int dexterity, int startingMoney, int startingExperience) {
+        this.name = name;
+        this.mana = mana;
+        this.strength = strength;
+        this.agility = agility;
+        this.dexterity = dexterity;
+        this.startingMoney = startingMoney;
+        this.startingExperience = startingExperience;
+    }
+
+    /**
+     * Parses one tokenized data row.
+     */
+    public static HeroRecord parse(String[] row) {
+        return new HeroRecord(row[0], Integer.parseInt(row[1]), Integer.parseInt(row[2]), Integer.parseInt(row[3]), Integer.parseInt(row[4]), Integer.parseInt(row[5]), Integer.parseInt(row[6]));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMana() {
+        return mana;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public int getAgility() {
+        return agility;
+    }
+
+    public int getDexterity() {
+        return dexterity;
+    }
+
+    public int getStartingMoney() {
+        return startingMoney;
+    }
+
+    public int getStartingExperience() {
+        return startingExperience;
+    }
+}
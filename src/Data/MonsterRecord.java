@@ -0,0 +1,54 @@
+/**
+ * Filename: MonsterRecord.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Typed row of Dragons.txt, Exoskeletons.txt and Spirits.txt.
+ */
+
+package Data;
+
+/**
+ * Immutable monster data entry: name, listed level, damage, defense and dodge chance.
+ */
+public final class MonsterRecord {
+    private final String name;
+    private final int level;
+    private final int damage;
+    private final int defense;
+    private final int dodgeChance;
+
+    public MonsterRecord(String name, int level, int damage, int defense, int dodgeChance) {
+        this.name = name;
+        this.level = level;
+        this.damage = damage;
+        this.defense = defense;
+        this.dodgeChance = dodgeChance;
+    }
+
+    /**
+     * Parses one tokenized data row.
+     */
+    public static MonsterRecord parse(String[] row) {
+        return new MonsterRecord(row[0], Integer.parseInt(row[1]), Integer.parseInt(row[2]), Integer.parseInt(row[3]), Integer.parseInt(row[4]));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public int getDefense() {
+        return defense;
+    }
+
+    public int getDodgeChance() {
+        return dodgeChance;
+    }
+}
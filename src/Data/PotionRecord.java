@@ -0,0 +1,63 @@
+/**
+ * Filename: PotionRecord.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Typed row of Potions.txt.
+ */
+
+package Data;
+
+import Items.Potion;
+
+/**
+ * Immutable potion catalog entry: name, cost, required level, increase and affected attribute(s).
+ */
+public final class PotionRecord {
+    private final String name;
+    private final int price;
+    private final int requiredLevel;
+    private final int attributeIncrease;
+    private final String attributeAffected;
+
+    public PotionRecord(String name, int price, int requiredLevel, int attributeIncrease, String attributeAffected) {
+        this.name = name;
+        this.price = price;
+        this.requiredLevel = requiredLevel;
+        this.attributeIncrease = attributeIncrease;
+        this.attributeAffected = attributeAffected;
+    }
+
+    /**
+     * Parses one tokenized data row.
+     */
+    public static PotionRecord parse(String[] row) {
+        return new PotionRecord(row[0], Integer.parseInt(row[1]), Integer.parseInt(row[2]), Integer.parseInt(row[3]), row[4]);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public int getRequiredLevel() {
+        return requiredLevel;
+    }
+
+    public int getAttributeIncrease() {
+        return attributeIncrease;
+    }
+
+    public String getAttributeAffected() {
+        return attributeAffected;
+    }
+
+    /**
+     * Creates a new potion item from this entry.
+     */
+    public Potion toItem() {
+        return new Potion(name, price, requiredLevel, attributeIncrease, attributeAffected);
+    }
+}
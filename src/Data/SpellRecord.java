@@ -0,0 +1,72 @@
+/**
+ * Filename: SpellRecord.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Typed row of FireSpells.txt, IceSpells.txt and LightningSpells.txt.
+ */
+
+package Data;
+
+import Items.Spell;
+
+/**
+ * Immutable spell catalog entry. The spell type is not in the row; it comes from the file.
+ */
+public final class SpellRecord {
+    private final String name;
+    private final int price;
+    private final int requiredLevel;
+    private final int damage;
+    private final int manaCost;
+    private final String type;
+
+    public SpellRecord(String name, int price, int requiredLevel, int damage, int manaCost, String type) {
+        this.name = name;
+        this.price = price;
+        this.requiredLevel = requiredLevel;
+        this.damage = damage;
+        this.manaCost = manaCost;
+        this.type = type;
+    }
+
+    /**
+     * Parses one tokenized data row.
+     * @param row The row tokens.
+     * @param type The spell type of the file the row came from.
+     */
+    public static SpellRecord parse(String[] row, String type) {
+        return new SpellRecord(row[0], Integer.parseInt(row[1]), Integer.parseInt(row[2]),
+                Integer.parseInt(row[3]), Integer.parseInt(row[4]), type);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public int getRequiredLevel() {
+        return requiredLevel;
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public int getManaCost() {
+        return manaCost;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Creates a new spell item from this entry.
+     */
+    public Spell toItem() {
+        return new Spell(name, price, requiredLevel, damage, manaCost, type);
+    }
+}
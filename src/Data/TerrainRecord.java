@@ -0,0 +1,69 @@
+/**
+ * Filename: TerrainRecord.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Typed row of Terrain.txt.
+ */
+
+package Data;
+
+/**
+ * Immutable terrain definition: name, map symbol, passable and removable flags, the hero stat
+ * raised while standing on it with its multiplier, and the role it plays when a board is built.
+ */
+public final class TerrainRecord {
+    private final String name;
+    private final char symbol;
+    private final boolean passable;
+    private final boolean removable;
+    private final String statAffected;
+    private final double multiplier;
+    private final String role;
+
+    public TerrainRecord(String name, char symbol, boolean passable, boolean removable,
+                         String statAffected, double multiplier, String role) {
+        this.name = name;
+        this.symbol = symbol;
+        this.passable = passable;
+        this.removable = removable;
+        this.statAffected = statAffected;
+        this.multiplier = multiplier;
+        this.role = role;
+    }
+
+    /**
+     * Parses one tokenized data row.
+     */
+    public static TerrainRecord parse(String[] row) {
+        return new TerrainRecord(row[0], row[1].charAt(0), Boolean.parseBoolean(row[2]), Boolean.parseBoolean(row[3]),
+                row[4], Double.parseDouble(row[5]), row[6]);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public char getSymbol() {
+        return symbol;
+    }
+
+    public boolean isPassable() {
+        return passable;
+    }
+
+    public boolean isRemovable() {
+        return removable;
+    }
+
+    public String getStatAffected() {
+        return statAffected;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public String getRole() {
+        return role;
+    }
+}
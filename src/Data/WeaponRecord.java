@@ -0,0 +1,63 @@
+/**
+ * Filename: WeaponRecord.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Typed row of Weaponry.txt.
+ */
+
+package Data;
+
+import Items.Weapon;
+
+/**
+ * Immutable weapon catalog entry: name, cost, required level, damage and hands.
+ */
+public final class WeaponRecord {
+    private final String name;
+    private final int price;
+    private final int requiredLevel;
+    private final int damage;
+    private final int requiredHands;
+
+    public WeaponRecord(String name, int price, int requiredLevel, int damage, int requiredHands) {
+        this.name = name;
+        this.price = price;
+        this.requiredLevel = requiredLevel;
+        this.damage = damage;
+        this.requiredHands = requiredHands;
+    }
+
+    /**
+     * Parses one tokenized data row.
+     */
+    public static WeaponRecord parse(String[] row) {
+        return new WeaponRecord(row[0], Integer.parseInt(row[1]), Integer.parseInt(row[2]), Integer.parseInt(row[3]), Integer.parseInt(row[4]));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public int getRequiredLevel() {
+        return requiredLevel;
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public int getRequiredHands() {
+        return requiredHands;
+    }
+
+    /**
+     * Creates a new weapon item from this entry.
+     */
+    public Weapon toItem() {
+        return new Weapon(name, price, requiredLevel, damage, requiredHands);
+    }
+}
@@ -36,6 +36,14 @@ public class MarketDisplay {
     }
     
     public static void showCategoryItems(List<Item> items, String categoryName, Hero hero) {
+        showCategoryItems(items, Collections.emptyMap(), categoryName, hero);
+    }
+
+    /**
+     * Lists market items with a stock column.
+     * @param stock Copies in stock per item; items not in the map have unlimited stock.
+     */
+    public static void showCategoryItems(List<Item> items, Map<Item, Integer> stock, String categoryName, Hero hero) {
         System.out.println();
         System.out.println(c.Blue + "+--------------------------------------------------------------------+");
         System.out.println(c.Blue + "|" + c.Bold + "                               " + categoryName + "                                " + c.Blue + "|");
@@ -46,7 +54,7 @@ public class MarketDisplay {
             System.out.println(c.Blue + "|" + c.Reset + "                    No " + categoryName.toLowerCase() + " available                     " + c.Blue + "|");
         }
         else {
-            System.out.println(c.Blue + "|" + c.Bold + String.format(" %-4s %-29s %-14s %-8s %-9s ", "#", "Item Name", "Type", "Lvl", "Price") + c.Blue + "|" + c.Reset);
+            System.out.println(c.Blue + "|" + c.Bold + String.format(" %-4s %-30s %-8s %-5s %-6s %-9s", "#", "Item Name", "Type", "Lvl", "Stock", "Price") + c.Blue + "|" + c.Reset);
             System.out.println(c.Blue + "+--------------------------------------------------------------------+" + c.Reset);
             
             for (int i = 0; i < items.size(); i++) {
@@ -84,7 +92,10 @@ public class MarketDisplay {
                     priceColor = c.Red;
                 }
                 
-                System.out.println(c.Blue + "|" + c.Reset + String.format(" %-4d ", (i + 1)) + colorCode + String.format("%-30s ", itemName) + colorCode + String.format("%-14s ", itemType) + c.Reset + String.format("%-8d ", item.getRequiredLevel()) + priceColor + String.format("%-9d", item.getPrice()) + c.Blue + "|" + c.Reset);
+                Integer count = stock.get(item);
+                String stockText = (count == null) ? "Unlim" : String.valueOf(count);
+                
+                System.out.println(c.Blue + "|" + c.Reset + String.format(" %-4d ", (i + 1)) + colorCode + String.format("%-30s ", itemName) + colorCode + String.format("%-8s ", itemType) + c.Reset + String.format("%-5d %-6s ", item.getRequiredLevel(), stockText) + priceColor + String.format("%-9d", item.getPrice()) + c.Blue + "|" + c.Reset);
             }
         }
         
@@ -152,8 +163,8 @@ public class MarketDisplay {
             System.out.println(c.Green + "|" + c.Bold + String.format(" %-4s %-35s %-15s %-10s ", "#", "Item Name", "Type", "Sell Price") + c.Green + "|" + c.Reset);
             System.out.println(c.Green + "+-----------------------------------------------------------------------+");
             
-            for (int i = 0; i < inventory.size(); i++) {
-                Item item = inventory.get(i);
+            int i = 0;
+            for (Item item : inventory) {
                 String itemType = "";
                 String colorCode = c.Reset;
                 
@@ -179,7 +190,7 @@ public class MarketDisplay {
                 int sellPrice = item.getPrice() / MonstersAndHeroesGameConstants.SELL_PRICE_DIVISOR;
                 
                 System.out.println(c.Green + "|" + c.Reset + colorCode + String.format(" %-4d %-35s %-15s %-10d", 
-                    (i + 1), itemName, itemType, sellPrice) + c.Green + "|" + c.Reset);
+                    ++i, itemName, itemType, sellPrice) + c.Green + "|" + c.Reset);
             }
         }
         
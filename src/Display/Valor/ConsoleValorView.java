@@ -0,0 +1,219 @@
+/**
+ * Filename: ConsoleValorView.java
+ * Author: Gowrav
+ * Date: 2025-Dec
+ * Description: ValorView that prints to the terminal through ValorDisplay.
+ */
+
+package Display.Valor;
+
+import Player.Heroes.*;
+import Player.Monsters.*;
+import Items.*;
+import board.valor.*;
+import java.util.*;
+
+/**
+ * Default view for interactive games: every call forwards to ValorDisplay.
+ */
+public class ConsoleValorView implements ValorView {
+    @Override
+    public void showBoard(ValorBoard board) {
+        board.printBoard();
+    }
+
+    @Override
+    public void showRound(int round) {
+        ValorDisplay.showRound(round);
+    }
+
+    @Override
+    public void heroTurnStart(Hero hero, int heroIndex) {
+        ValorDisplay.heroTurnStart(hero, heroIndex);
+    }
+
+    @Override
+    public void monstersTurnStart() {
+        ValorDisplay.monstersTurnStart();
+    }
+
+    @Override
+    public void heroAttackResult(Hero hero, Monster monster, int damage) {
+        ValorDisplay.heroAttackResult(hero, monster, damage);
+    }
+
+    @Override
+    public void monsterAttackResult(Monster monster, Hero hero, int damage) {
+        ValorDisplay.monsterAttackResult(monster, hero, damage);
+    }
+
+    @Override
+    public void monsterKilled(Monster monster) {
+        ValorDisplay.monsterKilled(monster);
+    }
+
+    @Override
+    public void heroKilled(Hero hero) {
+        ValorDisplay.heroKilled(hero);
+    }
+
+    @Override
+    public void heroRespawned(Hero hero) {
+        ValorDisplay.heroRespawned(hero);
+    }
+
+    @Override
+    public void heroLeveledUp(Hero hero, int oldLevel, int newLevel) {
+        ValorDisplay.heroLeveledUp(hero, oldLevel, newLevel);
+    }
+
+    @Override
+    public void monsterMoved(Monster monster, int fromRow, int toRow) {
+        ValorDisplay.monsterMoved(monster, fromRow, toRow);
+    }
+
+    @Override
+    public void monstersSpawned(int count) {
+        ValorDisplay.monstersSpawned(count);
+    }
+
+    @Override
+    public void nexusBreached(Monster monster, int breachesLeft) {
+        ValorDisplay.nexusBreached(monster, breachesLeft);
+    }
+
+    @Override
+    public void showTargets(List<Monster> monsters) {
+        ValorDisplay.showTargets(monsters);
+    }
+
+    @Override
+    public void showSpells(Hero hero, List<Spell> spells) {
+        ValorDisplay.showSpells(hero, spells);
+    }
+
+    @Override
+    public void showPotions(Hero hero, List<Potion> potions) {
+        ValorDisplay.showPotions(hero, potions);
+    }
+
+    @Override
+    public void showEquippableItems(Hero hero, List<Item> items) {
+        ValorDisplay.showEquippableItems(hero, items);
+    }
+
+    @Override
+    public void showHeroesForTeleport(Hero currentHero, List<Hero> heroes, List<Integer> heroIndices) {
+        ValorDisplay.showHeroesForTeleport(currentHero, heroes, heroIndices);
+    }
+
+    @Override
+    public void showRewards(int gold, int exp) {
+        ValorDisplay.showRewards(gold, exp);
+    }
+
+    @Override
+    public void showRegeneration() {
+        ValorDisplay.showRegeneration();
+    }
+
+    @Override
+    public void showDodge(String dodger, String attacker) {
+        ValorDisplay.showDodge(dodger, attacker);
+    }
+
+    @Override
+    public void showSpellCast(Hero hero, Monster monster, Spell spell, int damage) {
+        ValorDisplay.showSpellCast(hero, monster, spell, damage);
+    }
+
+    @Override
+    public void showPotionUsed(Hero hero, Potion potion) {
+        ValorDisplay.showPotionUsed(hero, potion);
+    }
+
+    @Override
+    public void showItemEquipped(Hero hero, Item item) {
+        ValorDisplay.showItemEquipped(hero, item);
+    }
+
+    @Override
+    public void showItemBought(Hero hero, Item item) {
+        ValorDisplay.showItemBought(hero, item);
+    }
+
+    @Override
+    public void showMoveResult(Hero hero, boolean success, char direction) {
+        ValorDisplay.showMoveResult(hero, success, direction);
+    }
+
+    @Override
+    public void showTeleportResult(Hero hero, Hero target, boolean success) {
+        ValorDisplay.showTeleportResult(hero, target, success);
+    }
+
+    @Override
+    public void showRecallResult(Hero hero, boolean success) {
+        ValorDisplay.showRecallResult(hero, success);
+    }
+
+    @Override
+    public void noTargetsInRange() {
+        ValorDisplay.noTargetsInRange();
+    }
+
+    @Override
+    public void noSpellsAvailable() {
+        ValorDisplay.noSpellsAvailable();
+    }
+
+    @Override
+    public void insufficientMana(Spell spell, int currentMp) {
+        ValorDisplay.insufficientMana(spell, currentMp);
+    }
+
+    @Override
+    public void noPotionsAvailable() {
+        ValorDisplay.noPotionsAvailable();
+    }
+
+    @Override
+    public void noEquippableItems() {
+        ValorDisplay.noEquippableItems();
+    }
+
+    @Override
+    public void cannotTeleport(String reason) {
+        ValorDisplay.cannotTeleport(reason);
+    }
+
+    @Override
+    public void notAtNexus() {
+        ValorDisplay.notAtNexus();
+    }
+
+    @Override
+    public void showAllInfo(List<Hero> heroes, EntityCollection monsters) {
+        ValorDisplay.showAllInfo(heroes, monsters);
+    }
+
+    @Override
+    public void showObstacleRemoved(Hero hero) {
+        ValorDisplay.showObstacleRemoved(hero);
+    }
+
+    @Override
+    public void noAdjacentObstacle() {
+        ValorDisplay.noAdjacentObstacle();
+    }
+
+    @Override
+    public void actionCancelled() {
+        ValorDisplay.actionCancelled();
+    }
+
+    @Override
+    public void passTurn(Hero hero) {
+        ValorDisplay.passTurn(hero);
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Filename: SilentValorView.java
+ * Author: Gowrav
+ * Date: 2025-Dec
+ * Description: ValorView that discards all output, for headless and simulated games.
+ */
+
+package Display.Valor;
+
+import Player.Heroes.*;
+import Player.Monsters.*;
+import Items.*;
+import board.valor.*;
+import java.util.*;
+
+/**
+ * No-op view. Used when games are driven by bots or simulations and nobody is watching.
+ */
+public class SilentValorView implements ValorView {
+    @Override
+    public void showBoard(ValorBoard board) {
+    }
+
+    @Override
+    public void showRound(int round) {
+    }
+
+    @Override
+    public void heroTurnStart(Hero hero, int heroIndex) {
+    }
+
+    @Override
+    public void monstersTurnStart() {
+    }
+
+    @Override
+    public void heroAttackResult(Hero hero, Monster monster, int damage) {
+    }
+
+    @Override
+    public void monsterAttackResult(Monster monster, Hero hero, int damage) {
+    }
+
+    @Override
+    public void monsterKilled(Monster monster) {
+    }
+
+    @Override
+    public void heroKilled(Hero hero) {
+    }
+
+    @Override
+    public void heroRespawned(Hero hero) {
+    }
+
+    @Override
+    public void heroLeveledUp(Hero hero, int oldLevel, int newLevel) {
+    }
+
+    @Override
+    public void monsterMoved(Monster monster, int fromRow, int toRow) {
+    }
+
+    @Override
+    public void monstersSpawned(int count) {
+    }
+
+    @Override
+    public void nexusBreached(Monster monster, int breachesLeft) {
+    }
+
+    @Override
+    public void showTargets(List<Monster> monsters) {
+    }
+
+    @Override
+    public void showSpells(Hero hero, List<Spell> spells) {
+    }
+
+    @Override
+    public void showPotions(Hero hero, List<Potion> potions) {
+    }
+
+    @Override
+    public void showEquippableItems(Hero hero, List<Item> items) {
+    }
+
+    @Override
+    public void showHeroesForTeleport(Hero currentHero, List<Hero> heroes, List<Integer> heroIndices) {
+    }
+
+    @Override
+    public void showRewards(int gold, int exp) {
+    }
+
+    @Override
+    public void showRegeneration() {
+    }
+
+    @Override
+    public void showDodge(String dodger, String attacker) {
+    }
+
+    @Override
+    public void showSpellCast(Hero hero, Monster monster, Spell spell, int damage) {
+    }
+
+    @Override
+    public void showPotionUsed(Hero hero, Potion potion) {
+    }
+
+    @Override
+    public void showItemEquipped(Hero hero, Item item) {
+    }
+
+    @Override
+    public void showItemBought(Hero hero, Item item) {
+    }
+
+    @Override
+    public void showMoveResult(Hero hero, boolean success, char direction) {
+    }
+
+    @Override
+    public void showTeleportResult(Hero hero, Hero target, boolean success) {
+    }
+
+    @Override
+    public void showRecallResult(Hero hero, boolean success) {
+    }
+
+    @Override
+    public void noTargetsInRange() {
+    }
+
+    @Override
+    public void noSpellsAvailable() {
+    }
+
+    @Override
+    public void insufficientMana(Spell spell, int currentMp) {
+    }
+
+    @Override
+    public void noPotionsAvailable() {
+    }
+
+    @Override
+    public void noEquippableItems() {
+    }
+
+    @Override
+    public void cannotTeleport(String reason) {
+    }
+
+    @Override
+    public void notAtNexus() {
+    }
+
+    @Override
+    public void showAllInfo(List<Hero> heroes, EntityCollection monsters) {
+    }
+
+    @Override
+    public void showObstacleRemoved(Hero hero) {
+    }
+
+    @Override
+    public void noAdjacentObstacle() {
+    }
+
+    @Override
+    public void actionCancelled() {
+    }
+
+    @Override
+    public void passTurn(Hero hero) {
+    }
+}
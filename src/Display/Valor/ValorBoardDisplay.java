@@ -12,7 +12,7 @@ import board.valor.ValorTile;
 import Wrapper.HeroWrapper;
 import Wrapper.MonsterWrapper;
 import board.common.BoardEntity;
-import board.valor.ValorBoardUtilities;
+import board.valor.ValorBoardGeometry;
 import Color.Color;
 
 public class ValorBoardDisplay {
@@ -25,10 +25,11 @@ public class ValorBoardDisplay {
         System.out.println(c.Cyan + "----------------------------------------------------------------" + c.Reset);
         System.out.println();
         
-        String[][] display = new String[board.getSize()][board.getSize()];
+        ValorBoardGeometry geometry = board.getGeometry();
+        String[][] display = new String[board.getRows()][board.getCols()];
         
-        for (int row = 0; row < board.getSize(); row++) {
-            for (int col = 0; col < board.getSize(); col++) {
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getCols(); col++) {
                 ValorTile tile = board.getTile(row, col);
                 if (tile != null) {
                     display[row][col] = String.valueOf(tile.getSymbol());
@@ -67,8 +68,8 @@ public class ValorBoardDisplay {
         
         // Build list of visible columns (excluding wall columns)
         java.util.List<Integer> visibleColumns = new java.util.ArrayList<>();
-        for (int col = 0; col < board.getSize(); col++) {
-            if (!ValorBoardUtilities.isWallColumn(col)) {
+        for (int col = 0; col < board.getCols(); col++) {
+            if (!geometry.isWallColumn(col)) {
                 visibleColumns.add(col);
             }
         }
@@ -88,7 +89,7 @@ public class ValorBoardDisplay {
         System.out.println();
         
         // Print board rows
-        for (int row = 0; row < board.getSize(); row++) {
+        for (int row = 0; row < board.getRows(); row++) {
             System.out.print(String.format("Row %2d ", row));
             System.out.print("|");
             for (int i = 0; i < visibleColumns.size(); i++) {
@@ -130,14 +131,14 @@ public class ValorBoardDisplay {
                 System.out.print(formattedContent);
                 
                 // Print vertical separator after each column, except between columns in the same lane
-                // Lanes: 0-1 (no separator between), 3-4 (no separator between), 6-7 (no separator between)
+                // Columns that share a lane (e.g. 0-1, 3-4, 6-7 on the standard board) have no separator between them
                 boolean showSeparator = true;
                 if (i < visibleColumns.size() - 1) {
                     int currentCol = visibleColumns.get(i);
                     int nextCol = visibleColumns.get(i + 1);
                     // Check if current and next columns are in the same lane
-                    int currentLane = ValorBoardUtilities.getLaneForColumn(currentCol);
-                    int nextLane = ValorBoardUtilities.getLaneForColumn(nextCol);
+                    int currentLane = geometry.getLaneForColumn(currentCol);
+                    int nextLane = geometry.getLaneForColumn(nextCol);
                     if (currentLane != -1 && currentLane == nextLane) {
                         showSeparator = false; // Same lane, no separator
                     }
@@ -12,6 +12,7 @@ import Player.Monsters.*;
 import Items.*;
 import board.valor.*;
 import board.common.BoardEntity;
+import Wrapper.MonsterWrapper;
 import Color.*;
 import java.util.*;
 
@@ -146,6 +147,13 @@ public class ValorDisplay {
         System.out.println(c.Green + "✦ " + hero.getName() + " has respawned at their Nexus! ✦" + c.Reset);
     }
 
+    /**
+     * Displays that a hero has leveled up.
+     */
+    public static void heroLeveledUp(Hero hero, int oldLevel, int newLevel) {
+        System.out.println(c.Green + hero.getName() + " leveled up from " + oldLevel + " to " + newLevel + "!" + c.Reset);
+    }
+
     /**
      * Displays monster movement.
      */
@@ -162,6 +170,14 @@ public class ValorDisplay {
         System.out.println();
     }
 
+    /**
+     * Displays a survival-mode nexus breach that did not end the game.
+     */
+    public static void nexusBreached(Monster monster, int breachesLeft) {
+        System.out.println(c.Red + c.Bold + monster.getName() + " broke through to your Nexus! " + c.Reset
+                + c.Yellow + breachesLeft + " breach(es) left." + c.Reset);
+    }
+
     /**
      * Displays victory message.
      */
@@ -341,6 +357,14 @@ public class ValorDisplay {
         System.out.println(c.Green + hero.getName() + c.Reset + " equipped " + c.Yellow + item.getName() + c.Reset + ".");
     }
 
+    /**
+     * Displays an item bought at the nexus market.
+     */
+    public static void showItemBought(Hero hero, Item item) {
+        System.out.println(c.Green + hero.getName() + c.Reset + " bought " + c.Yellow + item.getName() + c.Reset +
+            " for " + item.getPrice() + " gold.");
+    }
+
     /**
      * Displays move result.
      */
@@ -0,0 +1,61 @@
+/**
+ * Filename: ValorView.java
+ * Author: Gowrav
+ * Date: 2025-Dec
+ * Description: Output sink used by ValorBattle for everything it reports during a game.
+ */
+
+package Display.Valor;
+
+import Player.Heroes.*;
+import Player.Monsters.*;
+import Items.*;
+import board.valor.*;
+import java.util.*;
+
+/**
+ * Everything ValorBattle shows while a game runs. The console implementation forwards to
+ * ValorDisplay; SilentValorView drops all output so games can run headless.
+ */
+public interface ValorView {
+    void showBoard(ValorBoard board);
+    void showRound(int round);
+    void heroTurnStart(Hero hero, int heroIndex);
+    void monstersTurnStart();
+    void heroAttackResult(Hero hero, Monster monster, int damage);
+    void monsterAttackResult(Monster monster, Hero hero, int damage);
+    void monsterKilled(Monster monster);
+    void heroKilled(Hero hero);
+    void heroRespawned(Hero hero);
+    void heroLeveledUp(Hero hero, int oldLevel, int newLevel);
+    void monsterMoved(Monster monster, int fromRow, int toRow);
+    void monstersSpawned(int count);
+    void nexusBreached(Monster monster, int breachesLeft);
+    void showTargets(List<Monster> monsters);
+    void showSpells(Hero hero, List<Spell> spells);
+    void showPotions(Hero hero, List<Potion> potions);
+    void showEquippableItems(Hero hero, List<Item> items);
+    void showHeroesForTeleport(Hero currentHero, List<Hero> heroes, List<Integer> heroIndices);
+    void showRewards(int gold, int exp);
+    void showRegeneration();
+    void showDodge(String dodger, String attacker);
+    void showSpellCast(Hero hero, Monster monster, Spell spell, int damage);
+    void showPotionUsed(Hero hero, Potion potion);
+    void showItemEquipped(Hero hero, Item item);
+    void showItemBought(Hero hero, Item item);
+    void showMoveResult(Hero hero, boolean success, char direction);
+    void showTeleportResult(Hero hero, Hero target, boolean success);
+    void showRecallResult(Hero hero, boolean success);
+    void noTargetsInRange();
+    void noSpellsAvailable();
+    void insufficientMana(Spell spell, int currentMp);
+    void noPotionsAvailable();
+    void noEquippableItems();
+    void cannotTeleport(String reason);
+    void notAtNexus();
+    void showAllInfo(List<Hero> heroes, EntityCollection monsters);
+    void showObstacleRemoved(Hero hero);
+    void noAdjacentObstacle();
+    void actionCancelled();
+    void passTurn(Hero hero);
+}
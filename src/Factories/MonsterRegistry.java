@@ -0,0 +1,82 @@
+/**
+ * Filename: MonsterRegistry.java
+ * Author: Olivia Ma
+ * Date: 2025-Dec
+ * Description: Process-wide registry of monster templates, loaded from the data files once.
+ */
+
+package Factories;
+
+import Player.Monsters.Monster;
+import Data.MonsterRecord;
+import Utilities.DataLoader;
+import Utilities.GameRandom;
+import Utilities.Percentages;
+
+import java.util.*;
+
+/**
+ * Holds the parsed Dragons, Exoskeletons and Spirits files. The data is read the first time
+ * the registry is used; after that, spawning a monster does no disk I/O and no parsing.
+ * Templates are immutable apart from their thread-safe stats cache, so one registry is
+ * shared by every game and thread.
+ */
+public class MonsterRegistry {
+    private final List<MonsterTemplate> dragons;
+    private final List<MonsterTemplate> exoskeletons;
+    private final List<MonsterTemplate> spirits;
+
+    // Lazy holder: the JVM guarantees the instance is built once, on first access
+    private static class Holder {
+        private static final MonsterRegistry INSTANCE = new MonsterRegistry();
+    }
+
+    private MonsterRegistry() {
+        this.dragons = load("Dragon", "Dragons.txt");
+        this.exoskeletons = load("Exoskeleton", "Exoskeletons.txt");
+        this.spirits = load("Spirit", "Spirits.txt");
+    }
+
+    public static MonsterRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static List<MonsterTemplate> load(String type, String fileName) {
+        List<MonsterTemplate> templates = new ArrayList<>();
+        for (MonsterRecord record : DataLoader.readMonsters(fileName)) {
+            templates.add(MonsterTemplate.of(type, record));
+        }
+        return Collections.unmodifiableList(templates);
+    }
+
+    /**
+     * Creates a monster of a random type (weighted by Percentages) and a random template of that type.
+     * @param level The monster level.
+     * @param random The calling game's random source.
+     */
+    public Monster createRandomMonster(int level, GameRandom random) {
+        double roll = random.nextDouble();
+
+        List<MonsterTemplate> pool;
+        if (roll < Percentages.DRAGON) {
+            pool = dragons;
+        } else if (roll < Percentages.DRAGON + Percentages.EXOSKELETON) {
+            pool = exoskeletons;
+        } else {
+            pool = spirits;
+        }
+        return pool.get(random.nextInt(pool.size())).create(level);
+    }
+
+    public List<MonsterTemplate> getDragons() {
+        return dragons;
+    }
+
+    public List<MonsterTemplate> getExoskeletons() {
+        return exoskeletons;
+    }
+
+    public List<MonsterTemplate> getSpirits() {
+        return spirits;
+    }
+}
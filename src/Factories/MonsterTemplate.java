@@ -0,0 +1,89 @@
+/**
+ * Filename: MonsterTemplate.java
+ * Author: Olivia Ma
+ * Date: 2025-Dec
+ * Description: Monster data record with level-scaled stats memoised per level.
+ */
+
+package Factories;
+
+import Player.Monsters.*;
+import Data.MonsterRecord;
+import Utilities.ValorGameConstants;
+
+/**
+ * One row of a monster data file. The stats for each level are computed the
+ * first time that level is requested (using the regular monster constructors, so scaling
+ * rules stay in one place) and reused for every later spawn. Stats are immutable, so a race
+ * between two threads filling the same level at most computes it twice.
+ */
+public class MonsterTemplate {
+    // Survival waves stop rising at this level, so every survival spawn is cached; levels above
+    // it are computed on every spawn, so the cache stays a fixed size
+    private static final int MAX_CACHED_LEVEL = ValorGameConstants.SURVIVAL_MAX_MONSTER_LEVEL;
+
+    private final String type;
+    private final String name;
+    private final int damage;
+    private final int defense;
+    private final int dodgeChance;
+    private final MonsterStats[] statsByLevel = new MonsterStats[MAX_CACHED_LEVEL + 1];
+
+    public MonsterTemplate(String type, String name, int damage, int defense, int dodgeChance) {
+        this.type = type;
+        this.name = name;
+        this.damage = damage;
+        this.defense = defense;
+        this.dodgeChance = dodgeChance;
+    }
+
+    /**
+     * Builds a template from a monster data record.
+     * @param type The monster type: Dragon, Exoskeleton or Spirit.
+     * @param record The parsed data row.
+     */
+    public static MonsterTemplate of(String type, MonsterRecord record) {
+        return new MonsterTemplate(type, record.getName(), record.getDamage(), record.getDefense(), record.getDodgeChance());
+    }
+
+    /**
+     * Gets the final stats of this monster at a level, computing them on first use.
+     * Stats are cached for levels up to MAX_CACHED_LEVEL.
+     */
+    public MonsterStats statsAt(int level) {
+        if (level < 0 || level > MAX_CACHED_LEVEL) {
+            return MonsterStats.of(MonsterFactory.createMonster(type, name, level, damage, defense, dodgeChance));
+        }
+        MonsterStats stats = statsByLevel[level];
+        if (stats == null) {
+            stats = MonsterStats.of(MonsterFactory.createMonster(type, name, level, damage, defense, dodgeChance));
+            statsByLevel[level] = stats;
+        }
+        return stats;
+    }
+
+    /**
+     * Creates a new monster of this template at a level.
+     */
+    public Monster create(int level) {
+        MonsterStats stats = statsAt(level);
+        switch (type) {
+            case "Dragon":
+                return new Dragon(name, level, stats);
+            case "Exoskeleton":
+                return new Exoskeleton(name, level, stats);
+            case "Spirit":
+                return new Spirit(name, level, stats);
+            default:
+                throw new IllegalArgumentException("Unknown monster type");
+        }
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -23,6 +23,30 @@ import java.util.*;
 public abstract class BaseGame {
     protected List<Hero> heroes;
     protected PrintErrorMessages error = new PrintErrorMessages();
+    protected long seed;
+    protected GameRandom random;
+
+    /**
+     * Creates a game with a fresh random seed.
+     */
+    protected BaseGame() {
+        this(GameRandom.newSeed());
+    }
+
+    /**
+     * Creates a game that replays the given seed.
+     * @param seed The seed for every random decision of this game.
+     */
+    protected BaseGame(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the seed this game was created with.
+     */
+    public long getSeed() {
+        return seed;
+    }
 
     /**
      * Starts the game. Must be implemented by subclasses.
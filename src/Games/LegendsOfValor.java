@@ -22,6 +22,8 @@ import ErrorMessages.PrintErrorMessages;
 import Color.Color;
 import Player.Monsters.Monster;
 import Factories.MonsterFactory;
+import Controller.HeroController;
+import Display.Valor.ValorView;
 
 import java.util.*;
 
@@ -34,8 +36,41 @@ public class LegendsOfValor extends BaseGame {
     private List<Integer> heroLanes;
     private ValorBattle battleSystem;
     private int difficulty;
+    private boolean survival;
+    private LatencyHistogram roundTimes;
     private Color c = new Color();
 
+    public LegendsOfValor() {
+        super();
+    }
+
+    /**
+     * Creates a Legends of Valor game that replays the given seed.
+     * @param seed The seed for board generation and every combat roll.
+     */
+    public LegendsOfValor(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Creates the survival variant: no victory row, endless escalating waves, and the
+     * score is the number of rounds survived. Round timings are reported when it ends.
+     */
+    public static LegendsOfValor survival() {
+        LegendsOfValor game = new LegendsOfValor();
+        game.survival = true;
+        return game;
+    }
+
+    /**
+     * Creates the survival variant replaying the given seed.
+     */
+    public static LegendsOfValor survival(long seed) {
+        LegendsOfValor game = new LegendsOfValor(seed);
+        game.survival = true;
+        return game;
+    }
+
     /**
      * Starts the Legends of Valor game.
      */
@@ -61,8 +96,11 @@ public class LegendsOfValor extends BaseGame {
      */
     @Override
     protected void initialize() {
+        random = new GameRandom(seed);
+        System.out.println(c.Cyan + "Game seed: " + seed + c.Reset);
+
         // Create the game board
-        board = new ValorBoard();
+        board = new ValorBoard(ValorBoardGeometry.standard(), random.split());
         heroes = new ArrayList<>();
         heroLanes = new ArrayList<>();
 
@@ -83,11 +121,16 @@ public class LegendsOfValor extends BaseGame {
         spawnInitialMonsters();
 
         // Create the battle system
-        battleSystem = new ValorBattle(board, heroes, heroLanes, difficulty);
+        battleSystem = new ValorBattle(board, heroes, heroLanes, difficulty, random.split());
 
         System.out.println();
         System.out.println(c.Green + "Game initialized! Heroes are at the bottom, monsters at the top." + c.Reset);
-        System.out.println(c.Yellow + "Reach the monsters' Nexus (row 0) to win! Don't let monsters reach row 7!" + c.Reset);
+        if (survival) {
+            battleSystem.enableSurvival(0);
+            System.out.println(c.Yellow + "SURVIVAL: the waves never stop and keep growing. Don't let monsters reach row 7!" + c.Reset);
+        } else {
+            System.out.println(c.Yellow + "Reach the monsters' Nexus (row 0) to win! Don't let monsters reach row 7!" + c.Reset);
+        }
         System.out.println();
     }
 
@@ -278,40 +321,75 @@ public class LegendsOfValor extends BaseGame {
         System.out.println();
         System.out.println(c.Red + "Monsters are spawning..." + c.Reset);
 
-        int monsterLevel = getHighestHeroLevel();
+        List<Monster> spawned = placeInitialMonsters();
+        for (int lane = 0; lane < spawned.size(); lane++) {
+            System.out.println(c.Red + "Monster " + spawned.get(lane).getName() + " spawned in Lane " + (lane + 1) + "!" + c.Reset);
+        }
 
-        List<String[]> dragonData = DataLoader.readData("Dragons.txt");
-        List<String[]> exoskeletonData = DataLoader.readData("Exoskeletons.txt");
-        List<String[]> spiritData = DataLoader.readData("Spirits.txt");
+        System.out.println();
+    }
+
+    /**
+     * Places one monster at the top of each lane.
+     * @return The monsters placed, indexed by lane.
+     */
+    private List<Monster> placeInitialMonsters() {
+        int monsterLevel = getHighestHeroLevel();
 
-        for (int lane = 0; lane < ValorGameConstants.NUM_LANES; lane++) {
-            Monster monster = createRandomMonster(dragonData, exoskeletonData, spiritData, monsterLevel);
+        List<Monster> spawned = new ArrayList<>();
+        for (int lane = 0; lane < board.getLaneCount(); lane++) {
+            Monster monster = MonsterFactory.createRandomMonster(monsterLevel, random);
             board.spawnMonster(monster, lane + 1, lane);
-            System.out.println(c.Red + "Monster " + monster.getName() + " spawned in Lane " + (lane + 1) + "!" + c.Reset);
+            spawned.add(monster);
         }
-
-        System.out.println();
+        return spawned;
     }
 
     /**
-     * Creates a random monster from available types.
+     * Sets up a game with a fixed party and no console interaction. Hero i takes lane i,
+     * the board and monsters come from this game's seed, and the battle is driven by the
+     * given controller and view. Used by bots and the batch simulator.
+     * @param party The heroes to play with (at most one per lane).
+     * @param difficulty The difficulty level (1=Easy, 2=Medium, 3=Hard).
+     * @param controller Supplies hero decisions.
+     * @param view Receives the battle output.
+     * @return The battle, ready for executeRound().
      */
-    private Monster createRandomMonster(List<String[]> dragons, List<String[]> exos,
-                                        List<String[]> spirits, int level) {
-        double random = Math.random();
-
-        if (random < Percentages.DRAGON) {
-            String[] data = dragons.get((int) (Math.random() * dragons.size()));
-            return MonsterFactory.createMonster("Dragon", data, level);
-        } else if (random < Percentages.DRAGON + Percentages.EXOSKELETON) {
-            String[] data = exos.get((int) (Math.random() * exos.size()));
-            return MonsterFactory.createMonster("Exoskeleton", data, level);
-        } else {
-            String[] data = spirits.get((int) (Math.random() * spirits.size()));
-            return MonsterFactory.createMonster("Spirit", data, level);
+    public ValorBattle setupHeadless(List<Hero> party, int difficulty, HeroController controller, ValorView view) {
+        random = new GameRandom(seed);
+        board = new ValorBoard(ValorBoardGeometry.standard(), random.split());
+        if (party.isEmpty() || party.size() > board.getLaneCount()) {
+            throw new IllegalArgumentException("Party must have between 1 and " + board.getLaneCount() + " heroes");
         }
+        heroes = new ArrayList<>(party);
+        heroLanes = new ArrayList<>();
+        this.difficulty = difficulty;
+
+        for (int i = 0; i < heroes.size(); i++) {
+            heroLanes.add(i);
+            board.spawnHero(heroes.get(i), i + 1, i);
+        }
+        placeInitialMonsters();
+
+        battleSystem = new ValorBattle(board, heroes, heroLanes, difficulty, random.split(), controller, view);
+        return battleSystem;
     }
 
+    /**
+     * Sets up a headless survival game, as setupHeadless does for a regular one.
+     * @param breachesAllowed Nexus breaches tolerated before the game is lost;
+     *                        Integer.MAX_VALUE keeps it running for soak tests.
+     * @return The battle, ready for executeRound().
+     */
+    public ValorBattle setupSurvival(List<Hero> party, int difficulty, HeroController controller, ValorView view,
+                                     int breachesAllowed) {
+        survival = true;
+        ValorBattle battle = setupHeadless(party, difficulty, controller, view);
+        battle.enableSurvival(breachesAllowed);
+        return battle;
+    }
+
+
     /**
      * Main game loop.
      */
@@ -321,8 +399,11 @@ public class LegendsOfValor extends BaseGame {
         System.out.println(c.Green + c.Bold + "═══ GAME START ═══" + c.Reset);
         System.out.println();
 
+        roundTimes = new LatencyHistogram();
         while (!battleSystem.isGameOver()) {
+            long start = System.nanoTime();
             boolean continueGame = battleSystem.executeRound();
+            roundTimes.record(System.nanoTime() - start);
 
             if (!continueGame) {
                 break;
@@ -346,7 +427,12 @@ public class LegendsOfValor extends BaseGame {
         System.out.println();
         System.out.println(c.Bold + "═══════════════════════════" + c.Reset);
 
-        if (battleSystem.didHeroesWin()) {
+        if (survival) {
+            System.out.println(c.Red + c.Bold + "   ☠ OVERRUN ☠   " + c.Reset);
+            System.out.println(c.Yellow + "Your heroes survived " + battleSystem.getCurrentRound() + " rounds and "
+                    + battleSystem.getWave() + " waves, slaying " + battleSystem.getMonstersKilled() + " monsters." + c.Reset);
+            System.out.println(c.Cyan + "Round times (including input): " + roundTimes.summary() + c.Reset);
+        } else if (battleSystem.didHeroesWin()) {
             System.out.println(c.Green + c.Bold + "   🎉 VICTORY! 🎉   " + c.Reset);
             System.out.println(c.Green + "Your heroes have conquered the monsters' Nexus!" + c.Reset);
         } else {
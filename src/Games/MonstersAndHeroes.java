@@ -23,6 +23,18 @@ public class MonstersAndHeroes extends BaseGame {
     private Board world;
     private Market market;
 
+    public MonstersAndHeroes() {
+        super();
+    }
+
+    /**
+     * Creates a Monsters and Heroes game that replays the given seed.
+     * @param seed The seed for the world layout, encounters and every combat roll.
+     */
+    public MonstersAndHeroes(long seed) {
+        super(seed);
+    }
+
     /**
      * Starts the game.
      */
@@ -40,8 +52,10 @@ public class MonstersAndHeroes extends BaseGame {
      */
     @Override
     protected void initialize() {
+        random = new GameRandom(seed);
+        System.out.println("Game seed: " + seed);
         int worldSize = Input.getWorldSize();
-        world = new Board(worldSize);
+        world = new Board(worldSize, random.split());
         DisplayInstruction.heroesInstructions();
         heroes = createHeroes();
     }
@@ -69,8 +83,8 @@ public class MonstersAndHeroes extends BaseGame {
                 case 'w':
                     world.move(action, heroes);
                     if (world.isCommonSpace()) {
-                        if (Math.random() < Percentages.BATTLE) {
-                            Battle battle = new Battle(heroes);
+                        if (random.nextDouble() < Percentages.BATTLE) {
+                            Battle battle = new Battle(heroes, random.split());
                             battle.start();
                             endOfBattle();
                             if (isGameOver()) {
@@ -83,8 +97,8 @@ public class MonstersAndHeroes extends BaseGame {
                 case 'a':
                     world.move(action, heroes);
                     if (world.isCommonSpace()) {
-                        if (Math.random() < Percentages.BATTLE) {
-                            Battle battle = new Battle(heroes);
+                        if (random.nextDouble() < Percentages.BATTLE) {
+                            Battle battle = new Battle(heroes, random.split());
                             battle.start();
                             endOfBattle();
                             if (isGameOver()) {
@@ -97,8 +111,8 @@ public class MonstersAndHeroes extends BaseGame {
                 case 's':
                     world.move(action, heroes);
                     if (world.isCommonSpace()) {
-                        if (Math.random() < Percentages.BATTLE) {
-                            Battle battle = new Battle(heroes);
+                        if (random.nextDouble() < Percentages.BATTLE) {
+                            Battle battle = new Battle(heroes, random.split());
                             battle.start();
                             endOfBattle();
                             if (isGameOver()) {
@@ -111,8 +125,8 @@ public class MonstersAndHeroes extends BaseGame {
                 case 'd':
                     world.move(action, heroes);
                     if (world.isCommonSpace()) {
-                        if (Math.random() < Percentages.BATTLE) {
-                            Battle battle = new Battle(heroes);
+                        if (random.nextDouble() < Percentages.BATTLE) {
+                            Battle battle = new Battle(heroes, random.split());
                             battle.start();
                             endOfBattle();
                             if (isGameOver()) {
@@ -0,0 +1,399 @@
+/**
+ * Filename: Inventory.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: A hero's items, bucketed by category and required level, with constant-time removal
+ *              and cached lists of the items usable at the hero's level.
+ */
+
+package Items;
+
+import java.util.*;
+
+/**
+ * Items a hero carries. Still a List in purchase order (for listings such as the market's sell
+ * screen), but every item also sits in a bucket for its category and required level:
+ * - add and remove(item) are O(1): each copy is a node in linked lists, found through an identity map
+ * - getUsableSpells/Potions/Equipment read the level buckets instead of scanning with instanceof,
+ *   and the result is cached until the category changes or a level-up reaches the next item level;
+ *   like the old scans, the lists are in purchase order
+ * - get(index) reads an array of the nodes, rebuilt on the first get after a change
+ *
+ * Items are compared by identity, as Item does not override equals.
+ */
+public class Inventory extends AbstractList<Item> {
+    /**
+     * One carried copy of an item, linked into the purchase-order list and into its level bucket.
+     */
+    private static class Node {
+        final Item item;
+        final Bucket bucket;
+        // Position in purchase order, for sorting the usable lists
+        final long order;
+        Node prev;
+        Node next;
+        Node bucketPrev;
+        Node bucketNext;
+
+        Node(Item item, Bucket bucket, long order) {
+            this.item = item;
+            this.bucket = bucket;
+            this.order = order;
+        }
+    }
+
+    /**
+     * Items of one category and required level, oldest first.
+     */
+    private static class Bucket {
+        final ItemCategory category;
+        final int level;
+        Node head;
+        Node tail;
+        int size;
+
+        Bucket(ItemCategory category, int level) {
+            this.category = category;
+            this.level = level;
+        }
+    }
+
+    /**
+     * Level buckets of one category plus its cached usable list.
+     */
+    private static class CategoryBuckets {
+        final NavigableMap<Integer, Bucket> byLevel = new TreeMap<>();
+        int size;
+        List<Item> usable;
+        // Levels [usableFrom, usableUntil) see the same items as the cached list
+        int usableFrom;
+        int usableUntil;
+    }
+
+    private final Map<ItemCategory, CategoryBuckets> categories = new EnumMap<>(ItemCategory.class);
+    // Copies of each item, oldest first, so remove(item) finds a node without scanning
+    private final Map<Item, ArrayDeque<Node>> nodesByItem = new IdentityHashMap<>();
+    private Node head;
+    private Node tail;
+    private int size;
+    private long nextOrder;
+    // Nodes by index, valid while indexedModCount == modCount
+    private Node[] indexed = new Node[0];
+    private int indexedModCount = -1;
+    // Cached weapons + armor usable at levels [equipmentFrom, equipmentUntil)
+    private List<Item> usableEquipment;
+    private int equipmentFrom;
+    private int equipmentUntil;
+
+    public Inventory() {
+        for (ItemCategory category : ItemCategory.values()) {
+            categories.put(category, new CategoryBuckets());
+        }
+    }
+
+    /**
+     * Adds an item to the end of the inventory.
+     * @param item The item to add.
+     * @return true, as for any List.
+     */
+    @Override
+    public boolean add(Item item) {
+        ItemCategory category = ItemCategory.of(item);
+        CategoryBuckets buckets = categories.get(category);
+        Bucket bucket = buckets.byLevel.computeIfAbsent(item.getRequiredLevel(), level -> new Bucket(category, level));
+        Node node = new Node(item, bucket, nextOrder++);
+
+        // Purchase order
+        node.prev = tail;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+
+        // Level bucket
+        node.bucketPrev = bucket.tail;
+        if (bucket.tail == null) {
+            bucket.head = node;
+        } else {
+            bucket.tail.bucketNext = node;
+        }
+        bucket.tail = node;
+        bucket.size++;
+
+        nodesByItem.computeIfAbsent(item, key -> new ArrayDeque<>(1)).addLast(node);
+        buckets.size++;
+        size++;
+        modCount++;
+        invalidate(category);
+        return true;
+    }
+
+    /**
+     * Removes the oldest copy of an item.
+     * @param o The item to remove.
+     * @return true if the item was in the inventory.
+     */
+    @Override
+    public boolean remove(Object o) {
+        ArrayDeque<Node> nodes = nodesByItem.get(o);
+        if (nodes == null) {
+            return false;
+        }
+        Node node = nodes.pollFirst();
+        if (nodes.isEmpty()) {
+            nodesByItem.remove(o);
+        }
+        unlink(node);
+        return true;
+    }
+
+    @Override
+    public Item remove(int index) {
+        Node node = nodeAt(index);
+        ArrayDeque<Node> nodes = nodesByItem.get(node.item);
+        nodes.remove(node);
+        if (nodes.isEmpty()) {
+            nodesByItem.remove(node.item);
+        }
+        unlink(node);
+        return node.item;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return nodesByItem.containsKey(o);
+    }
+
+    /**
+     * Gets the item at a position in purchase order. O(1) between changes; the first call after
+     * an add or remove rebuilds the node array.
+     */
+    @Override
+    public Item get(int index) {
+        return nodeAt(index).item;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (CategoryBuckets buckets : categories.values()) {
+            buckets.byLevel.clear();
+            buckets.size = 0;
+            buckets.usable = null;
+        }
+        nodesByItem.clear();
+        head = null;
+        tail = null;
+        size = 0;
+        usableEquipment = null;
+        indexed = new Node[0];
+        modCount++;
+    }
+
+    @Override
+    public Iterator<Item> iterator() {
+        return new Iterator<Item>() {
+            private Node next = head;
+            private Node lastReturned;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Item next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = next;
+                next = next.next;
+                return lastReturned.item;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                ArrayDeque<Node> nodes = nodesByItem.get(lastReturned.item);
+                nodes.remove(lastReturned);
+                if (nodes.isEmpty()) {
+                    nodesByItem.remove(lastReturned.item);
+                }
+                unlink(lastReturned);
+                lastReturned = null;
+                expectedModCount = modCount;
+            }
+        };
+    }
+
+    /**
+     * Gets how many items of a category are carried.
+     */
+    public int count(ItemCategory category) {
+        return categories.get(category).size;
+    }
+
+    /**
+     * Gets the items of a category with required level at most the given level, in purchase order.
+     * @return An unmodifiable list, cached until the category changes or a level is asked for
+     *         that reaches a different set of items.
+     */
+    public List<Item> getUsable(ItemCategory category, int level) {
+        CategoryBuckets buckets = categories.get(category);
+        if (buckets.usable == null || level < buckets.usableFrom || level >= buckets.usableUntil) {
+            List<Node> usable = new ArrayList<>();
+            collectUsable(buckets, level, usable);
+            buckets.usable = inPurchaseOrder(usable);
+            buckets.usableFrom = levelFloor(buckets, level);
+            buckets.usableUntil = nextLevel(buckets, level);
+        }
+        return buckets.usable;
+    }
+
+    /**
+     * Checks whether any item of a category is usable at the given level, without building a list.
+     */
+    public boolean hasUsable(ItemCategory category, int level) {
+        CategoryBuckets buckets = categories.get(category);
+        return buckets.size > 0 && buckets.byLevel.firstKey() <= level;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Spell> getUsableSpells(int level) {
+        return (List<Spell>) (List<?>) getUsable(ItemCategory.SPELL, level);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Potion> getUsablePotions(int level) {
+        return (List<Potion>) (List<?>) getUsable(ItemCategory.POTION, level);
+    }
+
+    /**
+     * Gets the weapons and armor usable at the given level, in purchase order.
+     * @return An unmodifiable list, cached like getUsable.
+     */
+    public List<Item> getUsableEquipment(int level) {
+        if (usableEquipment == null || level < equipmentFrom || level >= equipmentUntil) {
+            CategoryBuckets weapons = categories.get(ItemCategory.WEAPON);
+            CategoryBuckets armor = categories.get(ItemCategory.ARMOR);
+            List<Node> equipment = new ArrayList<>();
+            collectUsable(weapons, level, equipment);
+            collectUsable(armor, level, equipment);
+            usableEquipment = inPurchaseOrder(equipment);
+            equipmentFrom = Math.max(levelFloor(weapons, level), levelFloor(armor, level));
+            equipmentUntil = Math.min(nextLevel(weapons, level), nextLevel(armor, level));
+        }
+        return usableEquipment;
+    }
+
+    /**
+     * Gets the highest item level of a category at most the given level.
+     */
+    private static int levelFloor(CategoryBuckets buckets, int level) {
+        Integer floor = buckets.byLevel.floorKey(level);
+        return floor == null ? Integer.MIN_VALUE : floor;
+    }
+
+    /**
+     * Gets the lowest item level of a category above the given level.
+     */
+    private static int nextLevel(CategoryBuckets buckets, int level) {
+        Integer next = buckets.byLevel.higherKey(level);
+        return next == null ? Integer.MAX_VALUE : next;
+    }
+
+    private static void collectUsable(CategoryBuckets buckets, int level, List<Node> into) {
+        for (Bucket bucket : buckets.byLevel.headMap(level, true).values()) {
+            for (Node node = bucket.head; node != null; node = node.bucketNext) {
+                into.add(node);
+            }
+        }
+    }
+
+    private static List<Item> inPurchaseOrder(List<Node> nodes) {
+        nodes.sort(Comparator.comparingLong(node -> node.order));
+        List<Item> items = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            items.add(node.item);
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Unlinks a node from the purchase-order list and its level bucket, dropping the bucket when empty.
+     */
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+
+        Bucket bucket = node.bucket;
+        if (node.bucketPrev == null) {
+            bucket.head = node.bucketNext;
+        } else {
+            node.bucketPrev.bucketNext = node.bucketNext;
+        }
+        if (node.bucketNext == null) {
+            bucket.tail = node.bucketPrev;
+        } else {
+            node.bucketNext.bucketPrev = node.bucketPrev;
+        }
+        bucket.size--;
+
+        CategoryBuckets buckets = categories.get(bucket.category);
+        if (bucket.size == 0) {
+            buckets.byLevel.remove(bucket.level);
+        }
+        buckets.size--;
+        size--;
+        modCount++;
+        invalidate(bucket.category);
+    }
+
+    private void invalidate(ItemCategory category) {
+        categories.get(category).usable = null;
+        if (category == ItemCategory.WEAPON || category == ItemCategory.ARMOR) {
+            usableEquipment = null;
+        }
+    }
+
+    private Node nodeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (indexedModCount != modCount) {
+            if (indexed.length < size) {
+                indexed = new Node[Math.max(size, indexed.length * 2)];
+            }
+            int i = 0;
+            for (Node node = head; node != null; node = node.next) {
+                indexed[i++] = node;
+            }
+            Arrays.fill(indexed, size, indexed.length, null);
+            indexedModCount = modCount;
+        }
+        return indexed[index];
+    }
+}
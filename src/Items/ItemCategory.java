@@ -0,0 +1,52 @@
+/**
+ * Filename: ItemCategory.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Enumeration of the four kinds of items, used to bucket items
+ *              without instanceof checks.
+ */
+package Items;
+
+public enum ItemCategory {
+    /**
+     * Weapons equipped for attacking.
+     */
+    WEAPON,
+
+    /**
+     * Armor equipped to reduce damage taken.
+     */
+    ARMOR,
+
+    /**
+     * Single-use potions that raise attributes.
+     */
+    POTION,
+
+    /**
+     * Spells cast for damage and a debuff.
+     */
+    SPELL;
+
+    /**
+     * Gets the category of an item.
+     * @param item The item to classify.
+     * @return The item's category.
+     * @throws IllegalArgumentException if the item is not one of the four item types.
+     */
+    public static ItemCategory of(Item item) {
+        if (item instanceof Weapon) {
+            return WEAPON;
+        }
+        if (item instanceof Armor) {
+            return ARMOR;
+        }
+        if (item instanceof Potion) {
+            return POTION;
+        }
+        if (item instanceof Spell) {
+            return SPELL;
+        }
+        throw new IllegalArgumentException("Unknown item type: " + item.getClass().getSimpleName());
+    }
+}
@@ -8,8 +8,17 @@
 package Items;
 
 public class Potion extends Item {
+    // Effect bits, one per attribute a potion can raise
+    public static final int HEALTH = 1;
+    public static final int MANA = 1 << 1;
+    public static final int STRENGTH = 1 << 2;
+    public static final int DEXTERITY = 1 << 3;
+    public static final int AGILITY = 1 << 4;
+    public static final int ALL = HEALTH | MANA | STRENGTH | DEXTERITY | AGILITY;
+
     private int attributeIncrease;
     private String attributeAffected;
+    private final int effects;
 
     /**
      * Constructor for the Potion class.
@@ -23,6 +32,36 @@ public class Potion extends Item {
         super(name, price, requiredLevel);
         this.attributeIncrease = attributeIncrease;
         this.attributeAffected = attributeAffected;
+        this.effects = parseEffects(attributeAffected);
+    }
+
+    /**
+     * Converts an attribute field such as "Health/Mana" or "All" into effect bits.
+     * Attributes a potion cannot raise (e.g. "Defense") are ignored.
+     * @param attributeAffected The attribute field from the data file.
+     * @return The effect bits.
+     */
+    public static int parseEffects(String attributeAffected) {
+        if (attributeAffected.contains("All")) {
+            return ALL;
+        }
+        int mask = 0;
+        if (attributeAffected.contains("Health")) {
+            mask |= HEALTH;
+        }
+        if (attributeAffected.contains("Mana")) {
+            mask |= MANA;
+        }
+        if (attributeAffected.contains("Strength")) {
+            mask |= STRENGTH;
+        }
+        if (attributeAffected.contains("Dexterity")) {
+            mask |= DEXTERITY;
+        }
+        if (attributeAffected.contains("Agility")) {
+            mask |= AGILITY;
+        }
+        return mask;
     }
 
     /**
@@ -40,4 +79,20 @@ public class Potion extends Item {
     public String getAttributeAffected() {
         return attributeAffected;
     }
+
+    /**
+     * Gets the attributes this potion raises, parsed once from the attribute field.
+     * @return A combination of HEALTH, MANA, STRENGTH, DEXTERITY and AGILITY.
+     */
+    public int getEffects() {
+        return effects;
+    }
+
+    /**
+     * Checks whether the potion raises the given attribute.
+     * @param effect One of the effect bits.
+     */
+    public boolean affects(int effect) {
+        return (effects & effect) != 0;
+    }
 }
@@ -10,11 +10,25 @@ package Main;
 public class Game {
     /**
      * The main entry point of the application.
-     * @param args Command line arguments (not used).
+     * Usage: Game [seed]
+     * @param args Command line arguments. An optional first argument is a seed to replay.
      * @return no return type
      */
     public static void main(String[] args) {
-        GameStarter game = new GameStarter();
+        GameStarter game;
+        if (args.length > 0) {
+            try {
+                game = new GameStarter(Long.parseLong(args[0]));
+            }
+            catch (NumberFormatException e) {
+                System.out.println("Invalid seed: " + args[0]);
+                System.out.println("Usage: Game [seed]  (seed must be a whole number)");
+                return;
+            }
+        }
+        else {
+            game = new GameStarter();
+        }
         game.chooseGame();
     }
 }
\ No newline at end of file
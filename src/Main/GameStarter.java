@@ -19,6 +19,19 @@ public class GameStarter {
     PrintErrorMessages error = new PrintErrorMessages();
     private static MonstersAndHeroes m = new MonstersAndHeroes();
     private static LegendsOfValor lov = new LegendsOfValor();
+    private Long seed;
+
+    public GameStarter() {
+        this.seed = null;
+    }
+
+    /**
+     * Creates a game starter whose games all replay the given seed.
+     * @param seed The seed passed to every game launched from the menu.
+     */
+    public GameStarter(long seed) {
+        this.seed = seed;
+    }
 
     /**
      * Displays the main menu and allows the player to choose a game to play or quit.
@@ -36,10 +49,11 @@ public class GameStarter {
             System.out.println("║                                                              ║");
             System.out.println("║    1. Monsters and Heroes                                    ║");
             System.out.println("║    2. Legends of Valor                                       ║");
-            System.out.println("║    3. Quit Game                                              ║");
+            System.out.println("║    3. Legends of Valor: Survival                             ║");
+            System.out.println("║    4. Quit Game                                              ║");
             System.out.println("║                                                              ║");
             System.out.println("╚══════════════════════════════════════════════════════════════╝");
-            System.out.print("Enter Your Choice (1-3):  ");
+            System.out.print("Enter Your Choice (1-4):  ");
             try {
                 choice = input.nextInt();
                 System.out.println();
@@ -54,18 +68,24 @@ public class GameStarter {
             switch (choice) {
                 // Monsters and heroes
                 case 1:
-                    m = new MonstersAndHeroes();
+                    m = (seed == null) ? new MonstersAndHeroes() : new MonstersAndHeroes(seed);
                     m.start();
                     break;
 
                 // Legends of Valor
                 case 2:
-                    lov = new LegendsOfValor();
+                    lov = (seed == null) ? new LegendsOfValor() : new LegendsOfValor(seed);
                     lov.start();
                     break;
 
-                // Exit from the game
+                // Legends of Valor survival mode
                 case 3:
+                    lov = (seed == null) ? LegendsOfValor.survival() : LegendsOfValor.survival(seed);
+                    lov.start();
+                    break;
+
+                // Exit from the game
+                case 4:
                     System.out.println("See you later!");
                     System.exit(0);
                     break;
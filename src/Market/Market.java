@@ -11,56 +11,24 @@ import Player.Heroes.*;
 import Display.MonstersAndHeroes.*;
 import Items.*;
 import Utilities.*;
-import Utilities.MonstersAndHeroesGameConstants;
 import ErrorMessages.PrintErrorMessages;
 import java.util.*;
 
 public class Market {
-    private List<Item> itemsForSale;
+    // Shared by every session; never modified
+    private final MarketCatalog catalog;
+    // Items sold to this market that are not in the catalog, with how many of each are in stock.
+    // Item does not override equals, so entries are keyed by identity; insertion order keeps listings stable.
+    private final Map<Item, Integer> soldStock;
     private static PrintErrorMessages error = new PrintErrorMessages();
 
     /**
      * Constructor for the Market class.
-     * Initializes the market with items for sale.
+     * Opens a session on the shared catalog; only the stock of sold-back items belongs to this market.
      */
     public Market() {
-        this.itemsForSale = new ArrayList<>();
-        initializeInventory();
-    }
-
-    /**
-     * Initializes the market's inventory by loading items from data files.
-     */
-    private void initializeInventory() {
-        List<String[]> weaponData = DataLoader.readData("Weaponry.txt");
-        for (String[] data : weaponData) {
-            itemsForSale.add(new Weapon(data[0], Integer.parseInt(data[1]), Integer.parseInt(data[2]), Integer.parseInt(data[3]), Integer.parseInt(data[4])));
-        }
-
-        List<String[]> armorData = DataLoader.readData("Armory.txt");
-        for (String[] data : armorData) {
-            itemsForSale.add(new Armor(data[0], Integer.parseInt(data[1]), Integer.parseInt(data[2]), Integer.parseInt(data[3])));
-        }
-
-        List<String[]> potionData = DataLoader.readData("Potions.txt");
-        for (String[] data : potionData) {
-            itemsForSale.add(new Potion(data[0], Integer.parseInt(data[1]), Integer.parseInt(data[2]), Integer.parseInt(data[3]), data[4]));
-        }
-
-        List<String[]> fireSpellData = DataLoader.readData("FireSpells.txt");
-        for (String[] data : fireSpellData) {
-            itemsForSale.add(new Spell(data[0], Integer.parseInt(data[1]), Integer.parseInt(data[2]), Integer.parseInt(data[3]), Integer.parseInt(data[4]), MonstersAndHeroesGameConstants.SPELL_TYPE_FIRE));
-        }
-
-        List<String[]> iceSpellData = DataLoader.readData("IceSpells.txt");
-        for (String[] data : iceSpellData) {
-            itemsForSale.add(new Spell(data[0], Integer.parseInt(data[1]), Integer.parseInt(data[2]), Integer.parseInt(data[3]), Integer.parseInt(data[4]), MonstersAndHeroesGameConstants.SPELL_TYPE_ICE));
-        }
-
-        List<String[]> lightningSpellData = DataLoader.readData("LightningSpells.txt");
-        for (String[] data : lightningSpellData) {
-            itemsForSale.add(new Spell(data[0], Integer.parseInt(data[1]), Integer.parseInt(data[2]), Integer.parseInt(data[3]), Integer.parseInt(data[4]), MonstersAndHeroesGameConstants.SPELL_TYPE_LIGHTNING));
-        }
+        this.catalog = MarketCatalog.getInstance();
+        this.soldStock = new LinkedHashMap<>();
     }
 
     /**
@@ -80,19 +48,19 @@ public class Market {
             
             switch (categoryChoice) {
                 case 1: // Weapons
-                    showCategoryAndBuy(party, getItemsByType(Weapon.class), "WEAPONS");
+                    showCategoryAndBuy(party, getItemsByType(ItemCategory.WEAPON), "WEAPONS");
                     break;
                 case 2: // Armor
-                    showCategoryAndBuy(party, getItemsByType(Armor.class), "ARMOR");
+                    showCategoryAndBuy(party, getItemsByType(ItemCategory.ARMOR), "ARMOR");
                     break;
                 case 3: // Potions
-                    showCategoryAndBuy(party, getItemsByType(Potion.class), "POTIONS");
+                    showCategoryAndBuy(party, getItemsByType(ItemCategory.POTION), "POTIONS");
                     break;
                 case 4: // Spells
-                    showCategoryAndBuy(party, getItemsByType(Spell.class), "SPELLS");
+                    showCategoryAndBuy(party, getItemsByType(ItemCategory.SPELL), "SPELLS");
                     break;
                 case 5: // View All Items
-                    showCategoryAndBuy(party, itemsForSale, "ALL ITEMS");
+                    showCategoryAndBuy(party, withSoldItems(catalog.getAllItems(), null), "ALL ITEMS");
                     break;
                 case 6: // Sell Items
                     sellFromParty(party);
@@ -111,16 +79,27 @@ public class Market {
     /**
      * Gets items of a specific type from the market.
      */
-    private <T extends Item> List<Item> getItemsByType(Class<T> itemType) {
-        List<Item> filtered = new ArrayList<>();
-        for (Item item : itemsForSale) {
-            if (itemType.isInstance(item)) {
-                filtered.add(item);
+    private List<Item> getItemsByType(ItemCategory category) {
+        return withSoldItems(catalog.getItems(category), category);
+    }
+
+    /**
+     * Appends this session's sold-back items of the given category (null for all) to a catalog list,
+     * one entry per distinct item. Returns the catalog list itself when nothing of that category is in stock.
+     */
+    private List<Item> withSoldItems(List<Item> catalogItems, ItemCategory category) {
+        List<Item> combined = null;
+        for (Item item : soldStock.keySet()) {
+            if (category == null || ItemCategory.of(item) == category) {
+                if (combined == null) {
+                    combined = new ArrayList<>(catalogItems);
+                }
+                combined.add(item);
             }
         }
-        return filtered;
+        return combined == null ? catalogItems : combined;
     }
-    
+
     /**
      * Shows a category and handles buying from that category.
      */
@@ -132,7 +111,7 @@ public class Market {
         
         // Show items with first hero's gold for display
         Hero displayHero = party.get(0);
-        MarketDisplay.showCategoryItems(categoryItems, categoryName, displayHero);
+        MarketDisplay.showCategoryItems(categoryItems, soldStock, categoryName, displayHero);
         
         int itemChoice = Input.getMarketChoice(categoryItems.size());
         if (itemChoice < 0 || itemChoice >= categoryItems.size()) {
@@ -151,14 +130,35 @@ public class Market {
         Hero buyer = party.get(heroIndex);
         
         // Attempt purchase
-        if (buyer.getGold() >= selectedItem.getPrice() && buyer.getLevel() >= selectedItem.getRequiredLevel()) {
-            buyer.buyItem(selectedItem);
-            // Items remain in market (not removed) - players can buy multiple copies
+        if (buy(buyer, selectedItem)) {
             MarketDisplay.buySuccess(buyer, selectedItem);
         } else {
             MarketDisplay.buyFail(buyer, selectedItem);
         }
     }
+
+    /**
+     * Buys an item for a hero without any console interaction, e.g. for a bot.
+     * @param buyer The hero paying for the item.
+     * @param item A catalog item or an item sold back to this market.
+     * @return false if the hero cannot afford or use the item.
+     */
+    public boolean buy(Hero buyer, Item item) {
+        if (buyer.getGold() < item.getPrice() || buyer.getLevel() < item.getRequiredLevel()) {
+            return false;
+        }
+        buyer.buyItem(item);
+        // Catalog items remain in market (not removed) - players can buy multiple copies
+        takeFromStock(item);
+        return true;
+    }
+
+    /**
+     * Gets the shared catalog this market sells from.
+     */
+    public MarketCatalog getCatalog() {
+        return catalog;
+    }
     
     /**
      * Handles selling items from any hero in the party.
@@ -187,8 +187,25 @@ public class Market {
         
         Item item = seller.getInventory().get(itemChoice);
         seller.sellItem(item);
-        itemsForSale.add(item);
+        addToStock(item);
         MarketDisplay.sellSuccess(seller, item);
     }
 
+    /**
+     * Records an item sold to the market. Catalog items are already listed with unlimited stock,
+     * so only other items are counted.
+     */
+    private void addToStock(Item item) {
+        if (!catalog.contains(item)) {
+            soldStock.merge(item, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes one copy of a bought item from the sold-back stock; the listing disappears at zero.
+     */
+    private void takeFromStock(Item item) {
+        soldStock.computeIfPresent(item, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
 }
@@ -0,0 +1,245 @@
+/**
+ * Filename: MarketCatalog.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Shared, read-only list of every item the market sells, built once per process,
+ *              with category, level and price indexes for the bots' shopping queries.
+ */
+
+package Market;
+
+import Data.*;
+import Items.*;
+import Utilities.DataLoader;
+import Utilities.MonstersAndHeroesGameConstants;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * The market's stock, loaded from the item data files the first time any market opens.
+ * Items are immutable, so one catalog is shared by every market session and every game;
+ * a session only keeps its own list of items sold back to it (see Market).
+ *
+ * Each category keeps, for every required level, the items usable at that level sorted by
+ * price, so "what can this hero use and afford" is a view over one sorted list instead of a
+ * scan of every item, and weapons and armor are indexed by the cheapest item at or above each
+ * stat value.
+ */
+public final class MarketCatalog {
+    private final List<Item> allItems;
+    private final Set<Item> itemSet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<ItemCategory, CategoryIndex> categories = new EnumMap<>(ItemCategory.class);
+    // Cheapest item with at least a given stat value
+    private final CheapestIndex cheapestArmorByReduction;
+    private final CheapestIndex cheapestWeaponByDamage;
+
+    private MarketCatalog() {
+        this(loadItems());
+    }
+
+    /**
+     * Builds a catalog over the given items, e.g. a modded item set.
+     * @param items The items to sell, in listing order.
+     */
+    public MarketCatalog(List<Item> items) {
+        Map<ItemCategory, List<Item>> buckets = new EnumMap<>(ItemCategory.class);
+        for (ItemCategory category : ItemCategory.values()) {
+            buckets.put(category, new ArrayList<>());
+        }
+        for (Item item : items) {
+            buckets.get(ItemCategory.of(item)).add(item);
+        }
+        for (ItemCategory category : ItemCategory.values()) {
+            categories.put(category, new CategoryIndex(buckets.get(category)));
+        }
+
+        this.allItems = Collections.unmodifiableList(new ArrayList<>(items));
+        this.itemSet.addAll(items);
+        this.cheapestArmorByReduction = new CheapestIndex(buckets.get(ItemCategory.ARMOR), item -> ((Armor) item).getDamageReduction());
+        this.cheapestWeaponByDamage = new CheapestIndex(buckets.get(ItemCategory.WEAPON), item -> ((Weapon) item).getDamage());
+    }
+
+    private static List<Item> loadItems() {
+        List<Item> items = new ArrayList<>();
+        for (WeaponRecord weapon : DataLoader.readWeapons()) {
+            items.add(weapon.toItem());
+        }
+        for (ArmorRecord piece : DataLoader.readArmor()) {
+            items.add(piece.toItem());
+        }
+        for (PotionRecord potion : DataLoader.readPotions()) {
+            items.add(potion.toItem());
+        }
+        addSpells(items, "FireSpells.txt", MonstersAndHeroesGameConstants.SPELL_TYPE_FIRE);
+        addSpells(items, "IceSpells.txt", MonstersAndHeroesGameConstants.SPELL_TYPE_ICE);
+        addSpells(items, "LightningSpells.txt", MonstersAndHeroesGameConstants.SPELL_TYPE_LIGHTNING);
+        return items;
+    }
+
+    private static void addSpells(List<Item> items, String fileName, String spellType) {
+        for (SpellRecord spell : DataLoader.readSpells(fileName, spellType)) {
+            items.add(spell.toItem());
+        }
+    }
+
+    // Initialized on first use; class loading makes this thread-safe
+    private static class Holder {
+        static final MarketCatalog INSTANCE = new MarketCatalog();
+    }
+
+    /**
+     * Gets the shared catalog, loading it on first call.
+     */
+    public static MarketCatalog getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Gets every item in the catalog in listing order: weapons, armor, potions, then spells.
+     * @return An unmodifiable list.
+     */
+    public List<Item> getAllItems() {
+        return allItems;
+    }
+
+    /**
+     * Gets the catalog items of one category in listing order.
+     * @return An unmodifiable list.
+     */
+    public List<Item> getItems(ItemCategory category) {
+        return categories.get(category).items;
+    }
+
+    /**
+     * Gets the items of a category a hero of the given level can use and afford, cheapest first.
+     * The usable list for the level is cut at the gold limit by binary search.
+     * @return An unmodifiable view; nothing is copied.
+     */
+    public List<Item> getUsableAffordableItems(ItemCategory category, int level, int gold) {
+        List<Item> usable = categories.get(category).usableAt(level);
+        return usable.subList(0, upperBoundByPrice(usable, gold));
+    }
+
+    /**
+     * Gets the cheapest armor with at least the given damage reduction.
+     * @return The armor, or null if none is strong enough.
+     */
+    public Armor getCheapestArmor(int minDamageReduction) {
+        return (Armor) cheapestArmorByReduction.atLeast(minDamageReduction);
+    }
+
+    /**
+     * Gets the cheapest weapon with at least the given damage.
+     * @return The weapon, or null if none is strong enough.
+     */
+    public Weapon getCheapestWeapon(int minDamage) {
+        return (Weapon) cheapestWeaponByDamage.atLeast(minDamage);
+    }
+
+    /**
+     * Checks whether this exact item instance is one of the catalog's items.
+     */
+    public boolean contains(Item item) {
+        return itemSet.contains(item);
+    }
+
+    public int size() {
+        return allItems.size();
+    }
+
+    /**
+     * Index of one category: listing order plus, for each distinct required level, every item
+     * usable at that level. Usable lists are sorted by price so a gold limit is a binary search.
+     */
+    private static class CategoryIndex {
+        final List<Item> items;
+        // Distinct required levels, ascending; usableByLevel.get(i) holds items usable at levels[i]
+        final int[] levels;
+        final List<List<Item>> usableByLevel = new ArrayList<>();
+
+        CategoryIndex(List<Item> categoryItems) {
+            this.items = Collections.unmodifiableList(categoryItems);
+            NavigableMap<Integer, List<Item>> byLevel = new TreeMap<>();
+            for (Item item : categoryItems) {
+                byLevel.computeIfAbsent(item.getRequiredLevel(), key -> new ArrayList<>()).add(item);
+            }
+
+            this.levels = new int[byLevel.size()];
+            List<Item> usable = new ArrayList<>();
+            int i = 0;
+            for (Map.Entry<Integer, List<Item>> entry : byLevel.entrySet()) {
+                usable.addAll(entry.getValue());
+                usable.sort(Comparator.comparingInt(Item::getPrice));
+                levels[i++] = entry.getKey();
+                usableByLevel.add(Collections.unmodifiableList(new ArrayList<>(usable)));
+            }
+        }
+
+        /**
+         * Gets the items usable at the given level, cheapest first.
+         */
+        List<Item> usableAt(int level) {
+            int i = Arrays.binarySearch(levels, level);
+            if (i < 0) {
+                i = -i - 2; // Highest required level below the hero's
+            }
+            return i < 0 ? Collections.emptyList() : usableByLevel.get(i);
+        }
+    }
+
+    /**
+     * Index of the first item in a price-sorted list that costs more than the limit.
+     */
+    private static int upperBoundByPrice(List<Item> byPrice, int limit) {
+        int low = 0;
+        int high = byPrice.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (byPrice.get(mid).getPrice() <= limit) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Distinct stat values in ascending order, each with the cheapest item whose stat is at
+     * least that value, so "cheapest item with stat >= n" is a binary search over plain arrays.
+     */
+    private static class CheapestIndex {
+        final int[] stats;
+        final Item[] cheapest;
+
+        CheapestIndex(List<Item> items, ToIntFunction<Item> stat) {
+            NavigableMap<Integer, Item> byStat = new TreeMap<>();
+            for (Item item : items) {
+                byStat.merge(stat.applyAsInt(item), item, (current, candidate) -> candidate.getPrice() < current.getPrice() ? candidate : current);
+            }
+
+            this.stats = new int[byStat.size()];
+            this.cheapest = new Item[byStat.size()];
+            // Sweep from the strongest down, carrying the cheapest item seen so far
+            int i = byStat.size();
+            Item best = null;
+            for (Map.Entry<Integer, Item> entry : byStat.descendingMap().entrySet()) {
+                if (best == null || entry.getValue().getPrice() < best.getPrice()) {
+                    best = entry.getValue();
+                }
+                i--;
+                stats[i] = entry.getKey();
+                cheapest[i] = best;
+            }
+        }
+
+        Item atLeast(int minStat) {
+            int i = Arrays.binarySearch(stats, minStat);
+            if (i < 0) {
+                i = -i - 1;
+            }
+            return i < stats.length ? cheapest[i] : null;
+        }
+    }
+}
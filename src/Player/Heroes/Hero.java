@@ -11,23 +11,41 @@ import Player.Character;
 import Items.*;
 import Utilities.MonstersAndHeroesGameConstants;
 import Utilities.Percentages;
+import Utilities.GameRandom;
 
 import java.util.*;
 
 public class Hero extends Character{
+    // Stat codes for temporary modifiers
+    public static final int STAT_STRENGTH = 0;
+    public static final int STAT_DEXTERITY = 1;
+    public static final int STAT_AGILITY = 2;
+    private static final int INITIAL_MODIFIERS = 4;
+
     private int mp;
+    // Base stats: only level-ups and potions change these
     private int strength;
     private int dexterity;
     private int agility;
+    // Temporary multipliers on top of the base stats (terrain, buffs), most recent last
+    private int[] modifierStats = new int[INITIAL_MODIFIERS];
+    private double[] modifierFactors = new double[INITIAL_MODIFIERS];
+    private int modifierCount;
+    // Effective stats, recomputed from the base stats and modifiers after any change
+    private int effectiveStrength;
+    private int effectiveDexterity;
+    private int effectiveAgility;
+    private boolean statsDirty = true;
     private int gold;
     private int experience;
-    private List<Item> inventory;
+    private Inventory inventory;
     private Weapon equippedWeapon;
     private Armor equippedArmor;
     private int maxMp;
     private double attackDebuff = 1.0;
     private double dodgeDebuff = 1.0;
     private int debuffDuration = 0;
+    private boolean announceLevelUps = true;
 
     /**
      * Constructor for the Hero class.
@@ -50,7 +68,7 @@ public class Hero extends Character{
         this.agility = agility;
         this.gold = gold;
         this.experience = experience;
-        this.inventory = new ArrayList<>();
+        this.inventory = new Inventory();
     }
 
     /**
@@ -70,29 +88,134 @@ public class Hero extends Character{
     }
 
     /**
-     * Gets the strength of the hero.
+     * Gets the strength of the hero, including terrain and buff modifiers.
      * @return The strength of the hero.
      */
     public int getStrength(){
-        return strength;
+        if (statsDirty) {
+            recomputeStats();
+        }
+        return effectiveStrength;
     }
 
     /**
-     * Gets the dexterity of the hero.
+     * Gets the dexterity of the hero, including terrain and buff modifiers.
      * @return The dexterity of the hero.
      */
     public int getDexterity(){
-        return dexterity;
+        if (statsDirty) {
+            recomputeStats();
+        }
+        return effectiveDexterity;
     }
 
     /**
-     * Gets the agility of the hero.
+     * Gets the agility of the hero, including terrain and buff modifiers.
      * @return The agility of the hero.
      */
     public int getAgility(){
+        if (statsDirty) {
+            recomputeStats();
+        }
+        return effectiveAgility;
+    }
+
+    /**
+     * Gets the strength of the hero without modifiers.
+     * @return The base strength.
+     */
+    public int getBaseStrength(){
+        return strength;
+    }
+
+    /**
+     * Gets the dexterity of the hero without modifiers.
+     * @return The base dexterity.
+     */
+    public int getBaseDexterity(){
+        return dexterity;
+    }
+
+    /**
+     * Gets the agility of the hero without modifiers.
+     * @return The base agility.
+     */
+    public int getBaseAgility(){
         return agility;
     }
 
+    /**
+     * Multiplies a stat until the modifier is removed again. The base stat is left alone,
+     * so taking the modifier off restores the exact previous value.
+     * @param stat STAT_STRENGTH, STAT_DEXTERITY or STAT_AGILITY.
+     * @param factor The multiplier, e.g. 1.1 for +10%.
+     */
+    public void addStatModifier(int stat, double factor) {
+        if (modifierCount == modifierStats.length) {
+            modifierStats = Arrays.copyOf(modifierStats, modifierCount * 2);
+            modifierFactors = Arrays.copyOf(modifierFactors, modifierCount * 2);
+        }
+        modifierStats[modifierCount] = stat;
+        modifierFactors[modifierCount] = factor;
+        modifierCount++;
+        statsDirty = true;
+    }
+
+    /**
+     * Removes the most recently added modifier with the given stat and factor.
+     * @return true if such a modifier was active.
+     */
+    public boolean removeStatModifier(int stat, double factor) {
+        for (int i = modifierCount - 1; i >= 0; i--) {
+            if (modifierStats[i] == stat && modifierFactors[i] == factor) {
+                modifierCount--;
+                System.arraycopy(modifierStats, i + 1, modifierStats, i, modifierCount - i);
+                System.arraycopy(modifierFactors, i + 1, modifierFactors, i, modifierCount - i);
+                statsDirty = true;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses a stat name such as "Strength" or "dexterity" into a stat code.
+     * @return The stat code, or -1 if the name is not a hero stat.
+     */
+    public static int parseStat(String name) {
+        switch (name.toLowerCase()) {
+            case "strength": return STAT_STRENGTH;
+            case "dexterity": return STAT_DEXTERITY;
+            case "agility": return STAT_AGILITY;
+            default: return -1;
+        }
+    }
+
+    private void recomputeStats() {
+        double strengthFactor = 1.0;
+        double dexterityFactor = 1.0;
+        double agilityFactor = 1.0;
+        for (int i = 0; i < modifierCount; i++) {
+            switch (modifierStats[i]) {
+                case STAT_STRENGTH:
+                    strengthFactor *= modifierFactors[i];
+                    break;
+                case STAT_DEXTERITY:
+                    dexterityFactor *= modifierFactors[i];
+                    break;
+                case STAT_AGILITY:
+                    agilityFactor *= modifierFactors[i];
+                    break;
+                default:
+                    break;
+            }
+        }
+        effectiveStrength = (int) (strength * strengthFactor);
+        effectiveDexterity = (int) (dexterity * dexterityFactor);
+        effectiveAgility = (int) (agility * agilityFactor);
+        statsDirty = false;
+    }
+
     /**
      * Gets the amount of gold the hero has.
      * @return The amount of gold.
@@ -111,12 +234,36 @@ public class Hero extends Character{
 
     /**
      * Gets the inventory of the hero.
-     * @return A list of items in the hero's inventory.
+     * @return The hero's items, in the order they were acquired.
      */
-    public List<Item> getInventory(){
+    public Inventory getInventory(){
         return inventory;
     }
 
+    /**
+     * Gets the spells the hero's level allows casting.
+     * @return A cached, unmodifiable list; rebuilt after the inventory changes or the hero reaches the level of another item.
+     */
+    public List<Spell> getUsableSpells() {
+        return inventory.getUsableSpells(getLevel());
+    }
+
+    /**
+     * Gets the potions the hero's level allows drinking.
+     * @return A cached, unmodifiable list; rebuilt after the inventory changes or the hero reaches the level of another item.
+     */
+    public List<Potion> getUsablePotions() {
+        return inventory.getUsablePotions(getLevel());
+    }
+
+    /**
+     * Gets the weapons and armor the hero's level allows equipping.
+     * @return A cached, unmodifiable list; rebuilt after the inventory changes or the hero reaches the level of another item.
+     */
+    public List<Item> getUsableEquipment() {
+        return inventory.getUsableEquipment(getLevel());
+    }
+
     /**
      * Gets the currently equipped weapon of the hero.
      * @return The equipped weapon, or null if no weapon is equipped.
@@ -158,27 +305,30 @@ public class Hero extends Character{
     }
 
     /**
-     * Sets the strength of the hero.
+     * Sets the base strength of the hero. Active modifiers apply on top of the new value.
      * @param strength The new strength value.
      */
     public void setStrength(int strength) {
         this.strength = strength;
+        statsDirty = true;
     }
 
     /**
-     * Sets the dexterity of the hero.
+     * Sets the base dexterity of the hero. Active modifiers apply on top of the new value.
      * @param dexterity The new dexterity value.
      */
     public void setDexterity(int dexterity) {
         this.dexterity = dexterity;
+        statsDirty = true;
     }
 
     /**
-     * Sets the agility of the hero.
+     * Sets the base agility of the hero. Active modifiers apply on top of the new value.
      * @param agility The new agility value.
      */
     public void setAgility(int agility) {
         this.agility = agility;
+        statsDirty = true;
     }
 
     /**
@@ -218,8 +368,19 @@ public class Hero extends Character{
         setMp(maxMp);
         
         // Stat increases are handled in subclasses
-        System.out.println(getName() + " leveled up from " + oldLevel + " to " + newLevel + "!");
-        System.out.println();
+        if (announceLevelUps) {
+            System.out.println(getName() + " leveled up from " + oldLevel + " to " + newLevel + "!");
+            System.out.println();
+        }
+    }
+
+    /**
+     * Sets whether level ups are printed by the hero itself. Games that report
+     * level ups through their own display turn this off.
+     * @param announceLevelUps true to print level ups.
+     */
+    public void setAnnounceLevelUps(boolean announceLevelUps) {
+        this.announceLevelUps = announceLevelUps;
     }
 
     /**
@@ -238,6 +399,34 @@ public class Hero extends Character{
         this.equippedArmor = armor;
     }
 
+    /**
+     * Applies a potion's effects: HP and MP are restored up to their maximums, and
+     * strength, dexterity and agility are raised. The potion stays in the inventory.
+     * @param potion The potion to drink.
+     * @return true if the potion raised anything.
+     */
+    public boolean drinkPotion(Potion potion) {
+        int effects = potion.getEffects();
+        int increase = potion.getAttributeIncrease();
+
+        if ((effects & Potion.HEALTH) != 0) {
+            setHp(Math.min(getHp() + increase, getMaxHp()));
+        }
+        if ((effects & Potion.MANA) != 0) {
+            setMp(Math.min(getMp() + increase, getMaxMp()));
+        }
+        if ((effects & Potion.STRENGTH) != 0) {
+            setStrength(getBaseStrength() + increase);
+        }
+        if ((effects & Potion.DEXTERITY) != 0) {
+            setDexterity(getBaseDexterity() + increase);
+        }
+        if ((effects & Potion.AGILITY) != 0) {
+            setAgility(getBaseAgility() + increase);
+        }
+        return effects != 0;
+    }
+
     /**
      * Buys an item and adds it to the hero's inventory.
      * @param item The item to buy.
@@ -292,12 +481,13 @@ public class Hero extends Character{
 
     /**
      * Applies a surrender debuff to the hero.
-     * The debuff lasts for a random number of battles between 1 and 3.
+     * The debuff lasts for a random number of battles between 1 and 3, drawn from the game's random source.
+     * @param random The game's random source.
      */
-    public void applySurrenderDebuff() {
+    public void applySurrenderDebuff(GameRandom random) {
         this.attackDebuff = 0.9; // -10% attack
         this.dodgeDebuff = 0.85; // -15% dodge
-        this.debuffDuration = new Random().nextInt(3) + 1; // 1-3 battles
+        this.debuffDuration = random.nextInt(3) + 1; // 1-3 battles
         System.out.println(getName() + " has been demoralized and will be weaker for " + debuffDuration + " battles!");
     }
 
@@ -337,45 +527,6 @@ public class Hero extends Character{
         return spellDamage;
     }
 
-    
-    // Terrain buff / removal helpers
-    // Terrain buffs use a Decorator-style composition approach.
-    public static void applyTerrainBuff(Hero hero, String terrainType) {
-        // In the project the tiles themselves call applyTerrainBonus(hero).
-        double mult = Utilities.ValorBoardConstants.TERRAIN_BONUS_MULTIPLIER;
-        switch(terrainType.toLowerCase()) {
-            case "bush":
-                hero.setDexterity((int)(hero.getDexterity() * mult));
-                break;
-            case "cave":
-                hero.setAgility((int)(hero.getAgility() * mult));
-                break;
-            case "koulou":
-                hero.setStrength((int)(hero.getStrength() * mult));
-                break;
-            default:
-                break;
-        }
-    }
-
-
-    public static void removeTerrainBuff(Hero hero, String terrainType) {
-        double mult = Utilities.ValorBoardConstants.TERRAIN_BONUS_MULTIPLIER;
-        switch(terrainType.toLowerCase()) {
-            case "bush":
-                hero.setDexterity((int)(hero.getDexterity() / mult));
-                break;
-            case "cave":
-                hero.setAgility((int)(hero.getAgility() / mult));
-                break;
-            case "koulou":
-                hero.setStrength((int)(hero.getStrength() / mult));
-                break;
-            default:
-                break;
-        }
-    }
-
     /**
      * Calculates the attack damage this hero can deal.
      * This abstraction allows heroes and monsters to attack in the same way.
@@ -30,8 +30,8 @@ public class Paladin extends Hero {
     @Override
     public void levelUp() {
         super.levelUp();
-        setStrength((int) (getStrength() * 1.1));
-        setDexterity((int) (getDexterity() * 1.1));
-        setAgility((int) (getAgility() * 1.05));
+        setStrength((int) (getBaseStrength() * 1.1));
+        setDexterity((int) (getBaseDexterity() * 1.1));
+        setAgility((int) (getBaseAgility() * 1.05));
     }
 }
@@ -30,8 +30,8 @@ public class Sorcerer extends Hero {
     @Override
     public void levelUp() {
         super.levelUp();
-        setDexterity((int) (getDexterity() * 1.1));
-        setAgility((int) (getAgility() * 1.1));
-        setStrength((int) (getStrength() * 1.05));
+        setDexterity((int) (getBaseDexterity() * 1.1));
+        setAgility((int) (getBaseAgility() * 1.1));
+        setStrength((int) (getBaseStrength() * 1.05));
     }
 }
@@ -24,4 +24,15 @@ public class Dragon extends Monster {
         // Dragons have increased base damage
         setBaseDamage((int) (getBaseDamage() * MonstersAndHeroesGameConstants.MONSTER_TYPE_BONUS));
     }
+
+    /**
+     * Constructor for a dragon whose stats were already scaled for its level
+     * (see Factories.MonsterTemplate).
+     * @param name The name of the dragon.
+     * @param level The level of the dragon.
+     * @param stats The final stats, including the type bonus.
+     */
+    public Dragon(String name, int level, MonsterStats stats) {
+        super(name, level, stats);
+    }
 }
@@ -24,4 +24,15 @@ public class Exoskeleton extends Monster {
         // Exoskeletons have increased defense
         setDefense((int) (getDefense() * MonstersAndHeroesGameConstants.MONSTER_TYPE_BONUS));
     }
+
+    /**
+     * Constructor for a exoskeleton whose stats were already scaled for its level
+     * (see Factories.MonsterTemplate).
+     * @param name The name of the exoskeleton.
+     * @param level The level of the exoskeleton.
+     * @param stats The final stats, including the type bonus.
+     */
+    public Exoskeleton(String name, int level, MonsterStats stats) {
+        super(name, level, stats);
+    }
 }
@@ -31,6 +31,20 @@ public class Monster extends Character {
         this.defense = defense + (int)(defense * 0.1 * (level - 1)); // 10% increase per level
         this.dodgeChance = dodgeChance + (int)(dodgeChance * 0.05 * (level - 1)); // 5% increase per level
     }
+
+    /**
+     * Constructor for a monster whose stats were already scaled for its level.
+     * @param name The name of the monster.
+     * @param level The level of the monster.
+     * @param stats The final stats, including the type bonus.
+     */
+    protected Monster(String name, int level, MonsterStats stats) {
+        super(name, level, stats.getHp());
+        this.maxHp = stats.getHp();
+        this.baseDamage = stats.getBaseDamage();
+        this.defense = stats.getDefense();
+        this.dodgeChance = stats.getDodgeChance();
+    }
     
     /**
      * Gets the maximum HP of the monster.
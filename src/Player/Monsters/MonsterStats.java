@@ -0,0 +1,50 @@
+/**
+ * Filename: MonsterStats.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Immutable, fully level-scaled combat stats shared by every monster of one template and level.
+ */
+
+package Player.Monsters;
+
+/**
+ * Final stats of a monster after level scaling and its type bonus have been applied.
+ * Instances are computed once per (template, level) and shared, so creating a monster
+ * from them is a plain field copy.
+ */
+public class MonsterStats {
+    private final int hp;
+    private final int baseDamage;
+    private final int defense;
+    private final int dodgeChance;
+
+    public MonsterStats(int hp, int baseDamage, int defense, int dodgeChance) {
+        this.hp = hp;
+        this.baseDamage = baseDamage;
+        this.defense = defense;
+        this.dodgeChance = dodgeChance;
+    }
+
+    /**
+     * Captures the current stats of an existing monster.
+     */
+    public static MonsterStats of(Monster monster) {
+        return new MonsterStats(monster.getMaxHp(), monster.getBaseDamage(), monster.getDefense(), monster.getDodgeChance());
+    }
+
+    public int getHp() {
+        return hp;
+    }
+
+    public int getBaseDamage() {
+        return baseDamage;
+    }
+
+    public int getDefense() {
+        return defense;
+    }
+
+    public int getDodgeChance() {
+        return dodgeChance;
+    }
+}
@@ -24,4 +24,15 @@ public class Spirit extends Monster {
         // Spirits have increased dodge ability
         setDodgeChance((int) (getDodgeChance() * MonstersAndHeroesGameConstants.MONSTER_TYPE_BONUS));
     }
+
+    /**
+     * Constructor for a spirit whose stats were already scaled for its level
+     * (see Factories.MonsterTemplate).
+     * @param name The name of the spirit.
+     * @param level The level of the spirit.
+     * @param stats The final stats, including the type bonus.
+     */
+    public Spirit(String name, int level, MonsterStats stats) {
+        super(name, level, stats);
+    }
 }
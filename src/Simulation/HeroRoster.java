@@ -0,0 +1,101 @@
+/**
+ * Filename: HeroRoster.java
+ * Author: Gowrav
+ * Date: 2025-Dec
+ * Description: Fixed hero party used by the batch simulator, built from the hero data files.
+ */
+
+package Simulation;
+
+import Player.Heroes.Hero;
+import Factories.HeroFactory;
+import Data.HeroRecord;
+import Utilities.DataLoader;
+
+import java.util.*;
+
+/**
+ * Names a party of heroes once and builds a fresh copy of it for every simulated game,
+ * since heroes level up, gain gold and take damage during play.
+ */
+public class HeroRoster {
+    private static final String[] TYPES = {"Warrior", "Sorcerer", "Paladin"};
+    private static final String[] FILES = {"Warriors.txt", "Sorcerers.txt", "Paladins.txt"};
+
+    private final List<String> types;
+    private final List<HeroRecord> rows;
+
+    private HeroRoster(List<String> types, List<HeroRecord> rows) {
+        this.types = types;
+        this.rows = rows;
+    }
+
+    /**
+     * Builds a roster from hero names as they appear in the hero data files.
+     * @param names The hero names, in lane order.
+     * @return The roster.
+     */
+    public static HeroRoster of(String... names) {
+        List<String> types = new ArrayList<>();
+        List<HeroRecord> rows = new ArrayList<>();
+        for (String name : names) {
+            boolean found = false;
+            for (int t = 0; t < TYPES.length && !found; t++) {
+                for (HeroRecord row : DataLoader.readHeroes(FILES[t])) {
+                    if (row.getName().equals(name)) {
+                        types.add(TYPES[t]);
+                        rows.add(row);
+                        found = true;
+                        break;
+                    }
+                }
+            }
+            if (!found) {
+                throw new IllegalArgumentException("Unknown hero: " + name);
+            }
+        }
+        return new HeroRoster(types, rows);
+    }
+
+    /**
+     * The default party: the first warrior, sorcerer and paladin listed in the data files.
+     */
+    public static HeroRoster standard() {
+        List<String> types = new ArrayList<>();
+        List<HeroRecord> rows = new ArrayList<>();
+        for (int t = 0; t < TYPES.length; t++) {
+            types.add(TYPES[t]);
+            rows.add(DataLoader.readHeroes(FILES[t]).get(0));
+        }
+        return new HeroRoster(types, rows);
+    }
+
+    /**
+     * Creates new hero instances for one game.
+     */
+    public List<Hero> createParty() {
+        List<Hero> party = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            HeroRecord row = rows.get(i);
+            party.add(HeroFactory.createHero(types.get(i), row.getName(), row.getMana(), row.getStrength(),
+                    row.getAgility(), row.getDexterity(), row.getStartingMoney(), row.getStartingExperience()));
+        }
+        return party;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(rows.get(i).getName()).append(" (").append(types.get(i)).append(")");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Filename: SimulationConfig.java
+ * Author: Gowrav
+ * Date: 2025-Dec
+ * Description: Parameters of a batch of simulated Legends of Valor games.
+ */
+
+package Simulation;
+
+import Controller.HeroController;
+
+import java.util.function.Supplier;
+
+/**
+ * What to simulate: how many games, at which difficulty, with which party and controller,
+ * on how many threads, and from which batch seed.
+ */
+public class SimulationConfig {
+    private final int games;
+    private final int difficulty;
+    private final HeroRoster roster;
+    private final Supplier<HeroController> controllers;
+    private final int threads;
+    private final long baseSeed;
+    private final int maxRounds;
+
+    /**
+     * @param games Number of games to play.
+     * @param difficulty The difficulty level (1=Easy, 2=Medium, 3=Hard).
+     * @param roster The party every game starts with.
+     * @param controllers Creates one controller per game (controllers may keep per-game state).
+     * @param threads Number of worker threads.
+     * @param baseSeed Batch seed; game i plays GameRandom.seedFor(baseSeed, i).
+     * @param maxRounds Games still running after this many rounds are stopped and counted as unfinished.
+     */
+    public SimulationConfig(int games, int difficulty, HeroRoster roster, Supplier<HeroController> controllers,
+                            int threads, long baseSeed, int maxRounds) {
+        if (games < 1 || threads < 1 || maxRounds < 1) {
+            throw new IllegalArgumentException("games, threads and maxRounds must be positive");
+        }
+        this.games = games;
+        this.difficulty = difficulty;
+        this.roster = roster;
+        this.controllers = controllers;
+        this.threads = threads;
+        this.baseSeed = baseSeed;
+        this.maxRounds = maxRounds;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getDifficulty() {
+        return difficulty;
+    }
+
+    public HeroRoster getRoster() {
+        return roster;
+    }
+
+    public HeroController newController() {
+        return controllers.get();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getBaseSeed() {
+        return baseSeed;
+    }
+
+    public int getMaxRounds() {
+        return maxRounds;
+    }
+}
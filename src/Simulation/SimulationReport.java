@@ -0,0 +1,115 @@
+/**
+ * Filename: SimulationReport.java
+ * Author: Gowrav
+ * Date: 2025-Dec
+ * Description: Aggregated outcome of a batch of simulated games.
+ */
+
+package Simulation;
+
+/**
+ * Running totals over simulated games. Each fork/join leaf fills its own report and
+ * the results are merged, so no counters are shared between threads.
+ */
+public class SimulationReport {
+    private int games;
+    private int heroWins;
+    private int unfinished;
+    private long totalRounds;
+    private int minRounds = Integer.MAX_VALUE;
+    private int maxRounds;
+    private long totalKills;
+    private long totalGold;
+    private long elapsedNanos;
+
+    /**
+     * Records one finished (or stopped) game.
+     * @param heroesWon Whether the heroes reached the monsters' nexus.
+     * @param finished Whether the game ended before the round limit.
+     * @param rounds Rounds played.
+     * @param kills Monsters killed.
+     * @param gold Gold earned by the whole party.
+     */
+    public void record(boolean heroesWon, boolean finished, int rounds, int kills, long gold) {
+        games++;
+        if (heroesWon) {
+            heroWins++;
+        }
+        if (!finished) {
+            unfinished++;
+        }
+        totalRounds += rounds;
+        minRounds = Math.min(minRounds, rounds);
+        maxRounds = Math.max(maxRounds, rounds);
+        totalKills += kills;
+        totalGold += gold;
+    }
+
+    /**
+     * Adds another report's totals to this one.
+     */
+    public SimulationReport merge(SimulationReport other) {
+        games += other.games;
+        heroWins += other.heroWins;
+        unfinished += other.unfinished;
+        totalRounds += other.totalRounds;
+        minRounds = Math.min(minRounds, other.minRounds);
+        maxRounds = Math.max(maxRounds, other.maxRounds);
+        totalKills += other.totalKills;
+        totalGold += other.totalGold;
+        return this;
+    }
+
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getHeroWins() {
+        return heroWins;
+    }
+
+    public int getUnfinished() {
+        return unfinished;
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) heroWins / games;
+    }
+
+    public double getAverageRounds() {
+        return games == 0 ? 0 : (double) totalRounds / games;
+    }
+
+    public double getAverageKills() {
+        return games == 0 ? 0 : (double) totalKills / games;
+    }
+
+    public double getAverageGold() {
+        return games == 0 ? 0 : (double) totalGold / games;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Multi-line summary for the console.
+     */
+    public String summary() {
+        return String.format(
+                "Games:            %d (%d unfinished)%n"
+                + "Hero win rate:    %.1f%%%n"
+                + "Rounds:           avg %.1f, min %d, max %d%n"
+                + "Kills per game:   %.2f%n"
+                + "Gold per game:    %.0f%n"
+                + "Elapsed:          %.2f s (%.1f games/s)",
+                games, unfinished, getWinRate() * 100,
+                getAverageRounds(), games == 0 ? 0 : minRounds, maxRounds,
+                getAverageKills(), getAverageGold(),
+                elapsedNanos / 1e9, getGamesPerSecond());
+    }
+}
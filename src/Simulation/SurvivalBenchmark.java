@@ -0,0 +1,178 @@
+/**
+ * Filename: SurvivalBenchmark.java
+ * Author: Gowrav
+ * Date: 2025-Dec
+ * Description: Soak and throughput benchmark that runs one headless survival game for a fixed number of rounds.
+ */
+
+package Simulation;
+
+import Battle.ValorBattle;
+import Controller.DefensiveHeroController;
+import Display.Valor.SilentValorView;
+import Games.LegendsOfValor;
+import Utilities.GameRandom;
+import Utilities.LatencyHistogram;
+import Utilities.ValorGameConstants;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+/**
+ * Plays a survival game with unlimited nexus breaches, so it never ends on its own, and
+ * times every round. Each checkpoint prints the round-time percentiles of the last interval,
+ * the monsters on the board, the heap in use and the bytes allocated per round, which should
+ * all stay level as rounds climb. The bytes allocated between the start of a round and its
+ * end-of-round step (the hero and monster turns) are counted separately; what the rest of
+ * the round allocates is the monsters created by spawn waves.
+ * Every interval after the first must see kills or breaches, or the benchmark fails: a
+ * board that has stopped moving would otherwise look perfectly level. After the warm-up,
+ * the first round whose turns allocate a single byte fails the benchmark, so the default
+ * run checks its last 25000 rounds. The warm-up rounds are only reported: C2 charges a few
+ * bytes to the thread in a round where it swaps compiled code in (an empty timed loop shows
+ * the same), and on one core that can still happen some 70000 rounds in. Under -Xint or
+ * -XX:TieredStopAtLevel=1 the turns read 0 from the first dozen rounds on.
+ */
+public class SurvivalBenchmark {
+    private static final int DEFAULT_ROUNDS = 100000;
+    private static final int CHECKPOINTS = 10;
+    // Rounds whose turn allocations are only reported, while the JIT settles
+    private static final int WARMUP_ROUNDS = 75000;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Adds up the bytes allocated from each round's start to its end-of-round step, and
+     * remembers the first round after the warm-up whose turns allocated.
+     */
+    private static class TurnAllocationView extends SilentValorView {
+        private int round;
+        private long roundStart;
+        private long turnBytes;
+        private int allocatingRounds;
+        private int firstAllocatingRound;
+        private long firstAllocatingBytes;
+
+        @Override
+        public void showRound(int round) {
+            this.round = round;
+            roundStart = allocatedBytes();
+        }
+
+        @Override
+        public void showRegeneration() {
+            long bytes = allocatedBytes() - roundStart;
+            if (bytes != 0) {
+                turnBytes += bytes;
+                allocatingRounds++;
+                if (round > WARMUP_ROUNDS && firstAllocatingRound == 0) {
+                    firstAllocatingRound = round;
+                    firstAllocatingBytes = bytes;
+                }
+            }
+        }
+
+        /**
+         * Fails if a round after the warm-up allocated in its turns.
+         */
+        void checkTurns() {
+            if (firstAllocatingRound != 0) {
+                throw new IllegalStateException("Hero and monster turns allocated " + firstAllocatingBytes
+                        + " bytes in round " + firstAllocatingRound);
+            }
+        }
+
+        /**
+         * Gets the number of rounds whose turns allocated since the last call.
+         */
+        int takeAllocatingRounds() {
+            int rounds = allocatingRounds;
+            allocatingRounds = 0;
+            return rounds;
+        }
+
+        /**
+         * Gets the turn bytes counted since the last call.
+         */
+        long takeTurnBytes() {
+            long bytes = turnBytes;
+            turnBytes = 0;
+            return bytes;
+        }
+    }
+
+    /**
+     * Usage: SurvivalBenchmark [rounds] [difficulty] [seed] [hero names...]
+     * Must be started from the directory holding the data files. A party smaller than the
+     * number of lanes leaves lanes open, so monsters keep breaching and being replaced.
+     */
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        int difficulty = args.length > 1 ? Integer.parseInt(args[1]) : ValorGameConstants.DIFFICULTY_HARD;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : GameRandom.newSeed();
+        HeroRoster roster = args.length > 3
+                ? HeroRoster.of(Arrays.copyOfRange(args, 3, args.length))
+                : HeroRoster.standard();
+        int interval = Math.max(1, rounds / CHECKPOINTS);
+
+        LegendsOfValor game = new LegendsOfValor(seed);
+        TurnAllocationView view = new TurnAllocationView();
+        ValorBattle battle = game.setupSurvival(roster.createParty(), difficulty,
+                new DefensiveHeroController(), view, Integer.MAX_VALUE);
+
+        System.out.println("Survival benchmark: " + rounds + " rounds, difficulty " + difficulty + ", seed " + seed);
+        System.out.println("Party: " + roster);
+        LatencyHistogram total = new LatencyHistogram();
+        LatencyHistogram window = new LatencyHistogram();
+        Runtime runtime = Runtime.getRuntime();
+        long windowAllocated = allocatedBytes();
+        long windowProgress = 0;
+        long start = System.nanoTime();
+
+        for (int round = 1; round <= rounds && !battle.isGameOver(); round++) {
+            long roundStart = System.nanoTime();
+            battle.executeRound();
+            window.record(System.nanoTime() - roundStart);
+            view.checkTurns();
+
+            if (round % interval == 0) {
+                total.add(window);
+                long allocated = allocatedBytes();
+                double bytesPerRound = (allocated - windowAllocated) / (double) window.getCount();
+                long turnBytes = view.takeTurnBytes();
+                int allocatingRounds = view.takeAllocatingRounds();
+                System.gc();
+                long heapKb = (runtime.totalMemory() - runtime.freeMemory()) / 1024;
+                System.out.println(String.format("round %8d | wave %6d | monsters %3d | queued %9d | kills %7d | breaches %7d | heap %7d KB | alloc %6.0f B/round | turns %5d B in %4d rounds | p50 %6.1f us | p99 %7.1f us",
+                        round, battle.getWave(), battle.getBoard().getMonsters().size(), battle.getPendingSpawns(),
+                        battle.getMonstersKilled(), battle.getBreaches(), heapKb,
+                        bytesPerRound, turnBytes, allocatingRounds, window.getPercentile(50) / 1000.0, window.getPercentile(99) / 1000.0));
+
+                long progress = (long) battle.getMonstersKilled() + battle.getBreaches();
+                if (round > interval && progress == windowProgress) {
+                    throw new IllegalStateException("Survival stalled: no kills or breaches in rounds "
+                            + (round - interval + 1) + "-" + round);
+                }
+                windowProgress = progress;
+                window = new LatencyHistogram();
+                windowAllocated = allocatedBytes();
+            }
+        }
+        total.add(window);
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println("Rounds survived: " + battle.getCurrentRound() + " (" + battle.getMonstersKilled() + " kills)");
+        System.out.println(String.format("Throughput:      %.0f rounds/s", battle.getCurrentRound() / seconds));
+        System.out.println("Round times:     " + total.summary());
+    }
+
+    /**
+     * Gets the bytes this thread has allocated so far, or 0 if the JVM cannot report it.
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+}
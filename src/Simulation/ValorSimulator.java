@@ -0,0 +1,133 @@
+/**
+ * Filename: ValorSimulator.java
+ * Author: Gowrav
+ * Date: 2025-Dec
+ * Description: Plays batches of headless Legends of Valor games in parallel and aggregates the results.
+ */
+
+package Simulation;
+
+import Battle.ValorBattle;
+import Controller.GreedyHeroController;
+import Display.Valor.SilentValorView;
+import Games.LegendsOfValor;
+import Player.Heroes.Hero;
+import Utilities.GameRandom;
+import Utilities.ValorGameConstants;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo runner for difficulty tuning. The game range is split recursively over a
+ * fork/join pool; every game builds its own board, party, random source and controller,
+ * so workers share nothing but read-only data and scale with the number of cores.
+ */
+public class ValorSimulator {
+    private static final int DEFAULT_MAX_ROUNDS = 1000;
+    private static final int TASKS_PER_THREAD = 8;
+
+    /**
+     * Plays every game of the batch and returns the merged report.
+     */
+    public static SimulationReport run(SimulationConfig config) {
+        ForkJoinPool pool = new ForkJoinPool(config.getThreads());
+        int threshold = Math.max(1, config.getGames() / (config.getThreads() * TASKS_PER_THREAD));
+        long start = System.nanoTime();
+        try {
+            SimulationReport report = pool.invoke(new GameRangeTask(config, 0, config.getGames(), threshold));
+            report.setElapsedNanos(System.nanoTime() - start);
+            return report;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a single game of the batch.
+     * @param config The batch parameters.
+     * @param index The game's position in the batch (selects its seed).
+     * @param report Receives the result.
+     */
+    static void playGame(SimulationConfig config, int index, SimulationReport report) {
+        LegendsOfValor game = new LegendsOfValor(GameRandom.seedFor(config.getBaseSeed(), index));
+        List<Hero> party = config.getRoster().createParty();
+        long startingGold = 0;
+        for (Hero hero : party) {
+            startingGold += hero.getGold();
+        }
+
+        ValorBattle battle = game.setupHeadless(party, config.getDifficulty(),
+                config.newController(), new SilentValorView());
+        while (!battle.isGameOver() && battle.getCurrentRound() < config.getMaxRounds()) {
+            battle.executeRound();
+        }
+
+        long gold = -startingGold;
+        for (Hero hero : party) {
+            gold += hero.getGold();
+        }
+        report.record(battle.didHeroesWin(), battle.isGameOver(), battle.getCurrentRound(),
+                battle.getMonstersKilled(), gold);
+    }
+
+    /**
+     * Plays games [from, to), splitting the range until it is small enough to play directly.
+     */
+    private static class GameRangeTask extends RecursiveTask<SimulationReport> {
+        private static final long serialVersionUID = 1L;
+
+        private final SimulationConfig config;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        GameRangeTask(SimulationConfig config, int from, int to, int threshold) {
+            this.config = config;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected SimulationReport compute() {
+            if (to - from <= threshold) {
+                SimulationReport report = new SimulationReport();
+                for (int i = from; i < to; i++) {
+                    playGame(config, i, report);
+                }
+                return report;
+            }
+            int mid = (from + to) >>> 1;
+            GameRangeTask left = new GameRangeTask(config, from, mid, threshold);
+            GameRangeTask right = new GameRangeTask(config, mid, to, threshold);
+            left.fork();
+            SimulationReport result = right.compute();
+            return result.merge(left.join());
+        }
+    }
+
+    /**
+     * Runs a batch from the command line. Must be started from the directory holding the data files.
+     * Usage: ValorSimulator [games] [difficulty] [threads] [seed] [hero names...]
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int difficulty = args.length > 1 ? Integer.parseInt(args[1]) : ValorGameConstants.DIFFICULTY_MEDIUM;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : GameRandom.newSeed();
+        HeroRoster roster = args.length > 4
+                ? HeroRoster.of(Arrays.copyOfRange(args, 4, args.length))
+                : HeroRoster.standard();
+
+        SimulationConfig config = new SimulationConfig(games, difficulty, roster, GreedyHeroController::new,
+                threads, seed, DEFAULT_MAX_ROUNDS);
+
+        System.out.println("Simulating " + games + " games, difficulty " + difficulty + ", " + threads
+                + " thread(s), seed " + seed);
+        System.out.println("Party: " + roster);
+        System.out.println(run(config).summary());
+    }
+}
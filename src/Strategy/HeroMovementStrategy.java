@@ -10,7 +10,6 @@ package Strategy;
 import board.valor.ValorBoard;
 import Wrapper.HeroWrapper;
 import board.common.BoardEntity;
-import board.common.BoardUtilities;
 
 public class HeroMovementStrategy implements MovementStrategy {
 
@@ -60,56 +59,38 @@ public class HeroMovementStrategy implements MovementStrategy {
         int currentRow = hero.getRow();
         int currentCol = hero.getCol();
         
-        if (!BoardUtilities.isValidCoordinate(newRow, newCol, board.getSize())) {
+        if (!board.isValidCoordinate(newRow, newCol)) {
             return false;
         }
         
-        if (!board.getTile(newRow, newCol).canEnter()) {
+        if (!board.isPassable(newRow, newCol)) {
             return false;
         }
         
-        if (board.getTile(newRow, newCol).hasHero()) {
+        if (board.hasHeroAt(newRow, newCol)) {
             return false;
         }
 
         // Check if target has a monster (heroes can't move into monster tiles - they must attack)
-        if (board.getTile(newRow, newCol).hasMonster()) {
+        if (board.hasMonsterAt(newRow, newCol)) {
             return false;
         }
 
-        // Heroes cannot move through or past monsters
-        // Check the space between current position and target
-        // For orthogonal movement (not diagonal), check if there's a monster in the path
-
-        if (newRow < currentRow) { // Moving north
-            // Check if there's a monster directly north that would block
-            for (int r = currentRow - 1; r >= newRow; r--) {
-                if (board.getTile(r, currentCol).hasMonster()) {
-                    return false; // Monster blocks the path
-                }
+        // Heroes cannot move through or past monsters in their column or row
+        if (newRow < currentRow) {
+            if (board.hasMonsterInColumn(currentCol, newRow, currentRow - 1)) {
+                return false; // Monster blocks the path
             }
-        } else if (newRow > currentRow) { // Moving south
-            // Check if there's a monster directly south that would block
-            for (int r = currentRow + 1; r <= newRow; r++) {
-                if (board.getTile(r, currentCol).hasMonster()) {
-                    return false; // Monster blocks the path
-                }
+        } else if (newRow > currentRow) {
+            if (board.hasMonsterInColumn(currentCol, currentRow + 1, newRow)) {
+                return false; // Monster blocks the path
             }
         }
 
-        if (newCol < currentCol) { // Moving west
-            // Check if there's a monster directly west that would block
-            for (int c = currentCol - 1; c >= newCol; c--) {
-                if (board.getTile(currentRow, c).hasMonster()) {
-                    return false; // Monster blocks the path
-                }
-            }
-        } else if (newCol > currentCol) { // Moving east
-            // Check if there's a monster directly east that would block
-            for (int c = currentCol + 1; c <= newCol; c++) {
-                if (board.getTile(currentRow, c).hasMonster()) {
-                    return false; // Monster blocks the path
-                }
+        if (newCol != currentCol) {
+            int firstCol = (newCol < currentCol) ? currentCol - 1 : currentCol + 1;
+            if (board.hasMonsterInRow(currentRow, firstCol, newCol)) {
+                return false; // Monster blocks the path
             }
         }
 
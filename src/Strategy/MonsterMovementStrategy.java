@@ -10,9 +10,21 @@ package Strategy;
 import board.valor.ValorBoard;
 import Wrapper.MonsterWrapper;
 import board.common.BoardEntity;
-import board.common.BoardUtilities;
 
 public class MonsterMovementStrategy implements MovementStrategy {
+    // Survival only: step aside within the lane around an obstacle instead of waiting behind it
+    private final boolean sidestepObstacles;
+    
+    public MonsterMovementStrategy() {
+        this(false);
+    }
+    
+    /**
+     * @param sidestepObstacles true to let a monster blocked by an obstacle move sideways within its lane.
+     */
+    public MonsterMovementStrategy(boolean sidestepObstacles) {
+        this.sidestepObstacles = sidestepObstacles;
+    }
     
     @Override
     public boolean move(ValorBoard board, BoardEntity entity, char direction) {
@@ -31,6 +43,15 @@ public class MonsterMovementStrategy implements MovementStrategy {
         int newRow = currentRow + 1;
         int newCol = currentCol;
         
+        // An obstacle straight ahead: step aside within the lane instead of waiting behind it forever
+        if (sidestepObstacles && board.isValidCoordinate(newRow, currentCol) && !board.isPassable(newRow, currentCol)) {
+            newRow = currentRow;
+            newCol = findSidestep(board, currentRow, currentCol);
+            if (newCol < 0) {
+                return false;
+            }
+        }
+        
         if (!isValidMove(board, entity, newRow, newCol)) {
             return false;
         }
@@ -48,28 +69,56 @@ public class MonsterMovementStrategy implements MovementStrategy {
         int currentRow = monster.getRow();
         int currentCol = monster.getCol();
         
-        if (newRow <= currentRow || newCol != currentCol) {
+        if (newRow == currentRow) {
+            // Sideways only around an obstacle directly south, and only within the lane
+            if (!sidestepObstacles
+                    || newCol == currentCol
+                    || board.getLaneForColumn(newCol) != board.getLaneForColumn(currentCol)
+                    || !board.isValidCoordinate(currentRow + 1, currentCol)
+                    || board.isPassable(currentRow + 1, currentCol)) {
+                return false;
+            }
+        } else if (newRow != currentRow + 1 || newCol != currentCol) {
             return false;
         }
         
-        if (!BoardUtilities.isValidCoordinate(newRow, newCol, board.getSize())) {
+        if (!board.isValidCoordinate(newRow, newCol)) {
             return false;
         }
         
-        if (!board.getTile(newRow, newCol).canEnter()) {
+        if (!board.isPassable(newRow, newCol)) {
             return false;
         }
         
-        if (board.getTile(newRow, newCol).hasMonster()) {
+        if (board.hasMonsterAt(newRow, newCol)) {
             return false;
         }
         
-        if (BoardUtilities.isValidCoordinate(currentRow - 1, currentCol, board.getSize())) {
-            if (board.getTile(currentRow - 1, currentCol).hasHero()) {
-                return false;
-            }
+        // Monsters cannot move past heroes: a hero directly north holds the monster in place
+        if (board.hasHeroAt(currentRow - 1, currentCol)) {
+            return false;
         }
         
         return true;
     }
+    
+    /**
+     * Finds a column of the monster's lane it can step into and then carry on south from.
+     * @return The column, or -1 if the lane offers no way around.
+     */
+    private int findSidestep(ValorBoard board, int row, int col) {
+        int[] laneColumns = board.getGeometry().getColumnsForLane(board.getLaneForColumn(col));
+        if (laneColumns == null) {
+            return -1;
+        }
+        for (int otherCol : laneColumns) {
+            if (otherCol != col
+                    && board.isPassable(row, otherCol)
+                    && !board.hasMonsterAt(row, otherCol)
+                    && board.isPassable(row + 1, otherCol)) {
+                return otherCol;
+            }
+        }
+        return -1;
+    }
 }
@@ -7,35 +7,170 @@ package Utilities;
  * Description: Loads game data such as heroes, monsters, items, and map details from external files.
  */
 
+import Data.*;
+
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public class DataLoader {
+    // Parsed files keyed by file name; an entry is reused while the file's timestamp and size are unchanged
+    private static final Map<String, CachedFile> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Tokenized rows of one file plus the typed records built from them.
+     */
+    private static class CachedFile {
+        final long lastModified;
+        final long length;
+        final List<String[]> rows;
+        final Map<Class<?>, List<?>> records = new ConcurrentHashMap<>();
+
+        CachedFile(long lastModified, long length, List<String[]> rows) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.rows = rows;
+        }
+    }
+
     /**
      * Reads data from a file and returns it as a list of string arrays.
      * Skips the header line and any empty lines.
+     * The rows come from a shared cache; the list is a fresh copy but the arrays must not be modified.
      * @param fileName The name of the file to read.
      * @return A list of string arrays, where each array represents a line in the file.
      */
     public static List<String[]> readData(String fileName) {
-        List<String[]> data = new ArrayList<>();
-        String line;
-        try (BufferedReader br = new BufferedReader(new FileReader(fileName))) {
-            br.readLine(); // Skip header
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue; // Skip empty lines
-                }
-                String[] parts = line.split("\\s+");
-                if (parts.length > 0 && parts[0].length() > 0) {
-                    data.add(parts);
-                }
+        CachedFile file = load(fileName);
+        return file == null ? new ArrayList<>() : new ArrayList<>(file.rows);
+    }
+
+    /**
+     * Gets the rows of a file parsed into immutable typed records. Each file is parsed once
+     * per record type and reused until the file changes on disk.
+     * @param fileName The name of the file to read.
+     * @param type The record class, used as the cache key.
+     * @param parser Converts one tokenized row into a record.
+     * @return An unmodifiable list of records (empty if the file cannot be read).
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> readRecords(String fileName, Class<T> type, Function<String[], T> parser) {
+        CachedFile file = load(fileName);
+        if (file == null) {
+            return Collections.emptyList();
+        }
+        return (List<T>) file.records.computeIfAbsent(type, key -> {
+            List<T> parsed = new ArrayList<>(file.rows.size());
+            for (String[] row : file.rows) {
+                parsed.add(parser.apply(row));
+            }
+            return Collections.unmodifiableList(parsed);
+        });
+    }
+
+    public static List<WeaponRecord> readWeapons() {
+        return readRecords("Weaponry.txt", WeaponRecord.class, WeaponRecord::parse);
+    }
+
+    public static List<ArmorRecord> readArmor() {
+        return readRecords("Armory.txt", ArmorRecord.class, ArmorRecord::parse);
+    }
+
+    public static List<PotionRecord> readPotions() {
+        return readRecords("Potions.txt", PotionRecord.class, PotionRecord::parse);
+    }
+
+    /**
+     * Reads a spell file; every spell in it gets the given type.
+     */
+    public static List<SpellRecord> readSpells(String fileName, String spellType) {
+        return readRecords(fileName, SpellRecord.class, row -> SpellRecord.parse(row, spellType));
+    }
+
+    public static List<HeroRecord> readHeroes(String fileName) {
+        return readRecords(fileName, HeroRecord.class, HeroRecord::parse);
+    }
+
+    public static List<MonsterRecord> readMonsters(String fileName) {
+        return readRecords(fileName, MonsterRecord.class, MonsterRecord::parse);
+    }
+
+    public static List<TerrainRecord> readTerrain() {
+        return readRecords("Terrain.txt", TerrainRecord.class, TerrainRecord::parse);
+    }
+
+    /**
+     * Returns the cached entry for a file, re-reading it if it changed since it was cached.
+     * The timestamp and size come from a single stat of the file.
+     * @return The entry, or null if the file cannot be read.
+     */
+    private static CachedFile load(String fileName) {
+        Path source = Paths.get(fileName);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            long length = attributes.size();
+
+            CachedFile cached = CACHE.get(fileName);
+            if (cached != null && cached.lastModified == lastModified && cached.length == length) {
+                return cached;
             }
+
+            byte[] bytes = Files.readAllBytes(source);
+            CachedFile fresh = new CachedFile(lastModified, length, tokenize(new String(bytes, StandardCharsets.UTF_8)));
+            CACHE.put(fileName, fresh);
+            return fresh;
         } catch (IOException e) {
             System.err.println("Error reading file: " + fileName);
             e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Splits file contents into whitespace-separated tokens per line, skipping the header
+     * line and blank lines. A single pass over the characters, no regular expressions.
+     */
+    static List<String[]> tokenize(String text) {
+        List<String[]> rows = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        int length = text.length();
+        int pos = 0;
+
+        // Skip header
+        while (pos < length && text.charAt(pos) != '\n') {
+            pos++;
+        }
+
+        while (pos < length) {
+            char ch = text.charAt(pos);
+            if (ch == '\n') {
+                addRow(rows, tokens);
+                pos++;
+            } else if (Character.isWhitespace(ch)) {
+                pos++;
+            } else {
+                int start = pos;
+                while (pos < length && !Character.isWhitespace(text.charAt(pos))) {
+                    pos++;
+                }
+                tokens.add(text.substring(start, pos));
+            }
+        }
+        addRow(rows, tokens);
+        return Collections.unmodifiableList(rows);
+    }
+
+    private static void addRow(List<String[]> rows, List<String> tokens) {
+        if (!tokens.isEmpty()) {
+            rows.add(tokens.toArray(new String[0]));
+            tokens.clear();
         }
-        return data;
     }
 }
@@ -0,0 +1,120 @@
+/**
+ * Filename: GameRandom.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Seeded, splittable random source shared by every random decision of a single game.
+ */
+
+package Utilities;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Random source owned by one game instance. Every random decision (board generation,
+ * dodges, monster selection, encounters) draws from it, so the same seed and the same
+ * player inputs always replay the same game.
+ *
+ * Backed by SplittableRandom, which is not shared between threads and has no internal
+ * locking, so games running in parallel never contend on a common generator the way
+ * Math.random() does. A source is not thread-safe; use split() to hand an independent
+ * child stream to another component or thread.
+ */
+public class GameRandom {
+    private final long seed;
+    private final SplittableRandom random;
+
+    /**
+     * Creates a random source from an explicit seed.
+     * @param seed The seed to replay.
+     */
+    public GameRandom(long seed) {
+        this(seed, new SplittableRandom(seed));
+    }
+
+    private GameRandom(long seed, SplittableRandom random) {
+        this.seed = seed;
+        this.random = random;
+    }
+
+    /**
+     * Generates a seed for games that were not given one.
+     */
+    public static long newSeed() {
+        return System.nanoTime() ^ Thread.currentThread().getId();
+    }
+
+    /**
+     * Derives the seed of one game in a batch from the batch seed, so every game gets a
+     * distinct, well-mixed seed that does not depend on which thread plays it.
+     * @param baseSeed The batch seed.
+     * @param index The game's position in the batch.
+     */
+    public static long seedFor(long baseSeed, long index) {
+        long z = baseSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets the seed this source was created with; for a split source, the seed of the
+     * source it was split from, which replays it.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Creates an independent child source using SplittableRandom's own split, so the child
+     * stream is statistically independent of this one. Splitting is itself reproducible.
+     */
+    public GameRandom split() {
+        return new GameRandom(seed, random.split());
+    }
+
+    /**
+     * Returns a fresh seed drawn from this source, e.g. for a sub-game.
+     */
+    public long nextSeed() {
+        return random.nextLong();
+    }
+
+    /**
+     * Returns a value in [0, 1), same contract as Math.random().
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * Returns a value in [0, bound).
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Shuffles a list in place (Fisher-Yates) using this source.
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            T tmp = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, tmp);
+        }
+    }
+
+    /**
+     * Shuffles a byte array in place, drawing the same numbers as shuffling a list of the same length.
+     */
+    public void shuffle(byte[] array) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            byte tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+}
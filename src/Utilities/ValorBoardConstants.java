@@ -23,9 +23,13 @@ public class ValorBoardConstants {
     public static final int WALL_COLUMN_1 = 2;
     public static final int WALL_COLUMN_2 = 5;
     
-    public static final int TERRAIN_TYPE_COUNT = 3;
+    public static final int LANE_WIDTH = 2;
+    public static final int WALL_WIDTH = 1;
+    
     public static final int OBSTACLE_MIN_COUNT = 3;
     public static final int OBSTACLE_MAX_COUNT = 7;
+    // Inner lane tiles on the standard board; obstacle counts scale with board area relative to this
+    public static final int STANDARD_INNER_LANE_CELLS = 36;
     
     public static final int SPAWN_COLUMN_INDEX_0 = 0;
     public static final int SPAWN_COLUMN_INDEX_1 = 1;
@@ -34,7 +38,8 @@ public class ValorBoardConstants {
     
     public static final int[][] MOVEMENT_DIRECTIONS = {{-1, 0}, {1, 0}, {0, 1}, {0, -1}};
     
-    public static final double TERRAIN_BONUS_MULTIPLIER = 1.10;
+    // Heroes and monsters reach their own tile and the four orthogonal neighbours
+    public static final int ATTACK_RADIUS = 1;
     
     public static final int FIRST_VALID_POSITION_INDEX = 0;
     
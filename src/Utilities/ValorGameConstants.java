@@ -20,6 +20,14 @@ public class ValorGameConstants {
     public static final int MONSTER_SPAWN_INTERVAL_HARD = 4;
     public static final int DEFAULT_SPAWN_INTERVAL = 8;
     
+    // Survival mode: waves grow by one monster per lane and one level every few waves
+    public static final int SURVIVAL_WAVES_PER_LEVEL = 3;
+    public static final int SURVIVAL_WAVES_PER_EXTRA_MONSTER = 5;
+    // Kill rewards feed hero levels back into monster levels, so levels would grow until HP overflows
+    public static final int SURVIVAL_MAX_MONSTER_LEVEL = 100;
+    // High agility or dodge stats would otherwise dodge every attack and stall the lanes
+    public static final double SURVIVAL_MAX_DODGE_CHANCE = 0.9;
+    
     // Rewards
     public static final int GOLD_PER_MONSTER_LEVEL = 500;
     public static final int EXP_PER_MONSTER_LEVEL = 2;
@@ -8,13 +8,17 @@
 package Wrapper;
 
 import board.common.BoardEntity;
+import board.common.PositionStore;
 import Player.Monsters.Monster;
 
 public class MonsterWrapper implements BoardEntity {
     private final Monster monster;
+    // Position used while the wrapper is not on a board; once attached it lives in the store
     private int row;
     private int col;
     private final int monsterIndex;
+    private PositionStore store;
+    private int slot = -1;
     
     public MonsterWrapper(Monster monster, int monsterIndex, int row, int col) {
         this.monster = monster;
@@ -30,18 +34,22 @@ public class MonsterWrapper implements BoardEntity {
     
     @Override
     public int getRow() {
-        return row;
+        return store != null ? store.getRow(slot) : row;
     }
     
     @Override
     public int getCol() {
-        return col;
+        return store != null ? store.getCol(slot) : col;
     }
     
     @Override
     public void setPosition(int row, int col) {
-        this.row = row;
-        this.col = col;
+        if (store != null) {
+            store.setPosition(slot, row, col);
+        } else {
+            this.row = row;
+            this.col = col;
+        }
     }
     
     @Override
@@ -56,4 +64,26 @@ public class MonsterWrapper implements BoardEntity {
     public int getMonsterIndex() {
         return monsterIndex;
     }
+    
+    @Override
+    public int getSlot() {
+        return slot;
+    }
+    
+    @Override
+    public void attach(PositionStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
+        store.setPosition(slot, row, col);
+    }
+    
+    @Override
+    public void detach() {
+        if (store != null) {
+            row = store.getRow(slot);
+            col = store.getCol(slot);
+        }
+        store = null;
+        slot = -1;
+    }
 }
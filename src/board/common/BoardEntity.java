@@ -13,5 +13,24 @@ public interface BoardEntity {
     int getCol();
     void setPosition(int row, int col);
     boolean isAlive();
+
+    /**
+     * Gets the dense slot the entity holds in its board's entity collection.
+     * @return The slot, or -1 if the entity is not on a board.
+     */
+    int getSlot();
+
+    /**
+     * Called by the entity collection when the entity is added. While attached, the entity's
+     * position lives in the store's arrays and getRow/getCol/setPosition read and write them.
+     * @param store The collection's position arrays.
+     * @param slot The slot handed to the entity.
+     */
+    void attach(PositionStore store, int slot);
+
+    /**
+     * Called by the entity collection when the entity is released; the entity keeps its last position.
+     */
+    void detach();
 }
 
@@ -0,0 +1,14 @@
+/**
+ * Filename: PositionStore.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Interface for slot-indexed storage that holds the positions of board entities.
+ */
+
+package board.common;
+
+public interface PositionStore {
+    int getRow(int slot);
+    int getCol(int slot);
+    void setPosition(int slot, int row, int col);
+}
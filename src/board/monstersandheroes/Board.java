@@ -9,6 +9,7 @@ package board.monstersandheroes;
 
 import Player.Heroes.*;
 import Utilities.Percentages;
+import Utilities.GameRandom;
 import java.util.*;
 import ErrorMessages.PrintErrorMessages;
 
@@ -17,6 +18,7 @@ public class Board {
     private int size;
     private int heroRow;
     private int heroCol;
+    private GameRandom random;
     PrintErrorMessages error = new PrintErrorMessages();
 
     /**
@@ -25,9 +27,11 @@ public class Board {
      * @param inaccessibleProb The probability of a tile being inaccessible.
      * @param marketProb The probability of a tile being a market.
      * @param commonProb The probability of a tile being common space.
+     * @param random The game's random source used to lay out the tiles.
      */
-    public Board(int size, double inaccessibleProb, double marketProb, double commonProb) {
+    public Board(int size, double inaccessibleProb, double marketProb, double commonProb, GameRandom random) {
         this.size = size;
+        this.random = random;
         this.grid = new Tile[size][size];
         this.heroRow = 0;
         this.heroCol = 0;
@@ -35,11 +39,12 @@ public class Board {
     }
 
     /**
-     * Constructor for the Board class with default probabilities.
+     * Constructor for the Board class with default probabilities and a given random source.
      * @param size The size of the world (size x size grid).
+     * @param random The game's random source used to lay out the tiles.
      */
-    public Board(int size) {
-        this(size, Percentages.TILE_INACCESSIBLE, Percentages.TILE_MARKET, Percentages.TILE_COMMON);
+    public Board(int size, GameRandom random) {
+        this(size, Percentages.TILE_INACCESSIBLE, Percentages.TILE_MARKET, Percentages.TILE_COMMON, random);
     }
 
     /**
@@ -51,7 +56,7 @@ public class Board {
     private void initializeGrid(double inaccessibleProb, double marketProb, double commonProb) {
         for (int i = 0; i < size; i++){
             for (int j = 0; j < size; j++){
-                double rand = Math.random();
+                double rand = random.nextDouble();
                 if (rand < inaccessibleProb){
                     grid[i][j] = new Tile(TileType.INACCESSIBLE);
                 }
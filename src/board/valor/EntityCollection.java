@@ -3,60 +3,334 @@
  * Author: Nandana Shashi
  * Date: 2025-Dec
  * Description: Collection class for board entities that implements Iterable for easy traversal.
+ *              Entities hold dense slots that are recycled through a free list once they are removed.
+ *              Per-entity board state (row, column, lane, debuff multipliers) is kept in parallel
+ *              arrays indexed by slot, so sweeps over the board read primitive arrays.
+ *              Every position write also updates the per-lane row extents.
  */
 
 package board.valor;
 
 import board.common.BoardEntity;
-import board.common.BoardIterator;
+import board.common.PositionStore;
+import Utilities.ValorBoardConstants;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
-public class EntityCollection implements Iterable<BoardEntity> {
-    private final List<BoardEntity> entities;
-    
-    public EntityCollection() {
-        this.entities = new ArrayList<>();
+/**
+ * Entities of one side of the board, stored as a struct of arrays. The wrappers are views:
+ * while an entity is in the collection its getRow/getCol/setPosition go to the rows and cols
+ * arrays, and the lane is updated with every move. HP and the alive flag stay on the
+ * Character, which every damage, regen and potion path already goes through.
+ */
+public class EntityCollection implements Iterable<BoardEntity>, PositionStore {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NONE = -1;
+
+    /**
+     * Notified when an entity leaves the collection, so tables indexed by slot can drop it
+     * before the slot is handed to another entity.
+     */
+    public interface ReleaseListener {
+        void released(int slot, BoardEntity entity);
+    }
+
+    private BoardEntity[] bySlot;
+    // Slot-indexed links keeping entities in the order they were added
+    private int[] next;
+    private int[] prev;
+    private int head = NONE;
+    private int tail = NONE;
+    // Released slots, reused before the arrays grow
+    private int[] freeSlots;
+    private int freeCount;
+    // Slots handed out so far (highest slot + 1)
+    private int used;
+    private int size;
+    private final List<ReleaseListener> releaseListeners = new ArrayList<>();
+    private final ValorBoardGeometry geometry;
+    // Lowest/highest occupied row per lane, updated on every add, move and remove
+    private final LaneExtents extents;
+
+    // Board state by slot
+    private int[] rows;
+    private int[] cols;
+    private int[] lanes;
+    private double[] damageMultipliers;
+    private double[] defenseMultipliers;
+    private double[] dodgeMultipliers;
+
+    public EntityCollection(ValorBoardGeometry geometry) {
+        this.geometry = geometry;
+        this.extents = new LaneExtents(geometry.getLaneCount(), geometry.getRows());
+        this.bySlot = new BoardEntity[INITIAL_CAPACITY];
+        this.next = new int[INITIAL_CAPACITY];
+        this.prev = new int[INITIAL_CAPACITY];
+        this.freeSlots = new int[INITIAL_CAPACITY];
+        this.rows = new int[INITIAL_CAPACITY];
+        this.cols = new int[INITIAL_CAPACITY];
+        this.lanes = new int[INITIAL_CAPACITY];
+        this.damageMultipliers = new double[INITIAL_CAPACITY];
+        this.defenseMultipliers = new double[INITIAL_CAPACITY];
+        this.dodgeMultipliers = new double[INITIAL_CAPACITY];
     }
-    
+
+    /**
+     * Adds an entity, giving it the most recently released slot or a new one.
+     */
     public void add(BoardEntity entity) {
-        entities.add(entity);
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (used == bySlot.length) {
+                grow();
+            }
+            slot = used++;
+        }
+        bySlot[slot] = entity;
+        resetMultipliers(slot);
+        lanes[slot] = ValorBoardConstants.INVALID_LANE;
+        // Copies the wrapper's position into the arrays
+        entity.attach(this, slot);
+
+        next[slot] = NONE;
+        prev[slot] = tail;
+        if (tail == NONE) {
+            head = slot;
+        } else {
+            next[tail] = slot;
+        }
+        tail = slot;
+        size++;
     }
-    
+
+    /**
+     * Removes an entity in O(1), tells the release listeners, then frees its slot.
+     */
     public void remove(BoardEntity entity) {
-        entities.remove(entity);
+        int slot = entity.getSlot();
+        if (slot < 0 || slot >= used || bySlot[slot] != entity) {
+            return;
+        }
+
+        if (prev[slot] == NONE) {
+            head = next[slot];
+        } else {
+            next[prev[slot]] = next[slot];
+        }
+        if (next[slot] == NONE) {
+            tail = prev[slot];
+        } else {
+            prev[next[slot]] = prev[slot];
+        }
+        size--;
+        untrack(slot);
+        lanes[slot] = ValorBoardConstants.INVALID_LANE;
+
+        for (int i = 0; i < releaseListeners.size(); i++) {
+            releaseListeners.get(i).released(slot, entity);
+        }
+        bySlot[slot] = null;
+        entity.detach();
+        freeSlots[freeCount++] = slot;
     }
-    
+
+    @Override
+    public int getRow(int slot) {
+        return rows[slot];
+    }
+
+    @Override
+    public int getCol(int slot) {
+        return cols[slot];
+    }
+
+    @Override
+    public void setPosition(int slot, int row, int col) {
+        untrack(slot);
+        rows[slot] = row;
+        cols[slot] = col;
+        lanes[slot] = geometry.getLaneForColumn(col);
+        if (lanes[slot] != ValorBoardConstants.INVALID_LANE) {
+            extents.add(lanes[slot], row);
+        }
+    }
+
+    private void untrack(int slot) {
+        if (lanes[slot] != ValorBoardConstants.INVALID_LANE) {
+            extents.remove(lanes[slot], rows[slot]);
+        }
+    }
+
+    /**
+     * Gets the lowest (northernmost) row any entity occupies in a lane.
+     * @return The row, or -1 if the lane is empty.
+     */
+    public int getMinRow(int lane) {
+        return extents.getMinRow(lane);
+    }
+
+    /**
+     * Gets the highest (southernmost) row any entity occupies in a lane.
+     * @return The row, or -1 if the lane is empty.
+     */
+    public int getMaxRow(int lane) {
+        return extents.getMaxRow(lane);
+    }
+
+    /**
+     * Gets the lane of the entity in a slot, or INVALID_LANE if it stands on a wall column.
+     */
+    public int getLane(int slot) {
+        return lanes[slot];
+    }
+
+    public double getDamageMultiplier(int slot) {
+        return damageMultipliers[slot];
+    }
+
+    public double getDefenseMultiplier(int slot) {
+        return defenseMultipliers[slot];
+    }
+
+    public double getDodgeMultiplier(int slot) {
+        return dodgeMultipliers[slot];
+    }
+
+    public void setDamageMultiplier(int slot, double multiplier) {
+        damageMultipliers[slot] = multiplier;
+    }
+
+    public void setDefenseMultiplier(int slot, double multiplier) {
+        defenseMultipliers[slot] = multiplier;
+    }
+
+    public void setDodgeMultiplier(int slot, double multiplier) {
+        dodgeMultipliers[slot] = multiplier;
+    }
+
+    /**
+     * Clears all debuff multipliers of a slot back to 1.0.
+     */
+    public void resetMultipliers(int slot) {
+        damageMultipliers[slot] = 1.0;
+        defenseMultipliers[slot] = 1.0;
+        dodgeMultipliers[slot] = 1.0;
+    }
+
+    /**
+     * Registers a table that must forget an entity when it is removed.
+     */
+    public void addReleaseListener(ReleaseListener listener) {
+        releaseListeners.add(listener);
+    }
+
+    /**
+     * Gets the entity holding a slot.
+     * @return The entity, or null if the slot is free.
+     */
+    public BoardEntity get(int slot) {
+        return (slot >= 0 && slot < used) ? bySlot[slot] : null;
+    }
+
+    /**
+     * Gets an upper bound on slots in use, for sizing tables indexed by slot.
+     * Stays flat as long as entities are removed about as fast as they are added.
+     */
+    public int capacity() {
+        return used;
+    }
+
     public List<BoardEntity> getEntities() {
-        return new ArrayList<>(entities);
+        List<BoardEntity> all = new ArrayList<>(size);
+        for (int slot = head; slot != NONE; slot = next[slot]) {
+            all.add(bySlot[slot]);
+        }
+        return all;
     }
-    
+
     public List<BoardEntity> getAliveEntities() {
-        List<BoardEntity> alive = new ArrayList<>();
-        for (BoardEntity entity : entities) {
-            if (entity.isAlive()) {
-                alive.add(entity);
+        List<BoardEntity> alive = new ArrayList<>(size);
+        for (int slot = head; slot != NONE; slot = next[slot]) {
+            if (bySlot[slot].isAlive()) {
+                alive.add(bySlot[slot]);
             }
         }
         return alive;
     }
-    
+
+    /**
+     * Copies the alive entities, in the order they were added, into a buffer without allocating.
+     * @param out Buffer of at least size() entries.
+     * @return The number of entities copied.
+     */
+    public int copyAlive(BoardEntity[] out) {
+        int count = 0;
+        for (int slot = head; slot != NONE; slot = next[slot]) {
+            if (bySlot[slot].isAlive()) {
+                out[count++] = bySlot[slot];
+            }
+        }
+        return count;
+    }
+
     public int size() {
-        return entities.size();
+        return size;
     }
-    
+
     public boolean isEmpty() {
-        return entities.isEmpty();
+        return size == 0;
     }
-    
+
     public void clear() {
-        entities.clear();
+        for (BoardEntity entity : getEntities()) {
+            remove(entity);
+        }
     }
-    
+
+    /**
+     * Iterates alive entities in the order they were added.
+     */
     @Override
     public Iterator<BoardEntity> iterator() {
-        return new BoardIterator(entities);
+        return new Iterator<BoardEntity>() {
+            private int cursor = head;
+
+            @Override
+            public boolean hasNext() {
+                while (cursor != NONE && !bySlot[cursor].isAlive()) {
+                    cursor = next[cursor];
+                }
+                return cursor != NONE;
+            }
+
+            @Override
+            public BoardEntity next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more entities");
+                }
+                BoardEntity entity = bySlot[cursor];
+                cursor = next[cursor];
+                return entity;
+            }
+        };
     }
-}
 
+    private void grow() {
+        int capacity = bySlot.length * 2;
+        bySlot = Arrays.copyOf(bySlot, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+        rows = Arrays.copyOf(rows, capacity);
+        cols = Arrays.copyOf(cols, capacity);
+        lanes = Arrays.copyOf(lanes, capacity);
+        damageMultipliers = Arrays.copyOf(damageMultipliers, capacity);
+        defenseMultipliers = Arrays.copyOf(defenseMultipliers, capacity);
+        dodgeMultipliers = Arrays.copyOf(dodgeMultipliers, capacity);
+    }
+}
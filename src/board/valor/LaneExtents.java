@@ -0,0 +1,80 @@
+/**
+ * Filename: LaneExtents.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Per-lane row counts of one side's entities, tracking the lowest and highest occupied row.
+ */
+
+package board.valor;
+
+import java.util.Arrays;
+
+/**
+ * Counts how many entities stand in each row of each lane and keeps the lowest and highest
+ * occupied row per lane. Adding is O(1); removing is O(1) unless it empties the extreme row,
+ * in which case the bound steps inward to the next occupied row (at most the board's height).
+ */
+class LaneExtents {
+    static final int NONE = -1;
+
+    private final int[][] counts;
+    private final int[] minRow;
+    private final int[] maxRow;
+
+    LaneExtents(int laneCount, int rows) {
+        this.counts = new int[laneCount][rows];
+        this.minRow = new int[laneCount];
+        this.maxRow = new int[laneCount];
+        Arrays.fill(minRow, NONE);
+        Arrays.fill(maxRow, NONE);
+    }
+
+    void add(int lane, int row) {
+        counts[lane][row]++;
+        if (minRow[lane] == NONE || row < minRow[lane]) {
+            minRow[lane] = row;
+        }
+        if (maxRow[lane] == NONE || row > maxRow[lane]) {
+            maxRow[lane] = row;
+        }
+    }
+
+    void remove(int lane, int row) {
+        int[] laneCounts = counts[lane];
+        if (--laneCounts[row] > 0) {
+            return;
+        }
+        if (minRow[lane] == maxRow[lane]) {
+            minRow[lane] = NONE;
+            maxRow[lane] = NONE;
+            return;
+        }
+        if (row == minRow[lane]) {
+            int min = row + 1;
+            while (laneCounts[min] == 0) {
+                min++;
+            }
+            minRow[lane] = min;
+        } else if (row == maxRow[lane]) {
+            int max = row - 1;
+            while (laneCounts[max] == 0) {
+                max--;
+            }
+            maxRow[lane] = max;
+        }
+    }
+
+    /**
+     * Gets the lowest occupied row of a lane, or NONE if the lane is empty.
+     */
+    int getMinRow(int lane) {
+        return minRow[lane];
+    }
+
+    /**
+     * Gets the highest occupied row of a lane, or NONE if the lane is empty.
+     */
+    int getMaxRow(int lane) {
+        return maxRow[lane];
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Filename: RangeTable.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Precomputed per-tile lists of the tiles within an attack radius.
+ */
+
+package board.valor;
+
+import Utilities.ValorBoardConstants;
+
+import java.util.Arrays;
+
+/**
+ * For every tile of a board, the indices (row * cols + col) of the tiles within a Manhattan
+ * radius, packed into one array with a start offset per tile. Each list starts with the tile
+ * itself, then its orthogonal neighbours in MOVEMENT_DIRECTIONS order, then farther tiles by
+ * distance; off-board tiles are left out when the table is built, so a range query is a walk
+ * over an array slice with no bounds checks.
+ */
+public class RangeTable {
+    private final int cols;
+    private final int radius;
+    // start[tile]..start[tile + 1] is the slice of tiles[] in range of tile
+    private final int[] start;
+    private final int[] tiles;
+
+    /**
+     * Builds the table for a board layout.
+     * @param radius Manhattan distance that counts as in range (1 = the tile and its four neighbours).
+     */
+    public RangeTable(ValorBoardGeometry geometry, int radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("Invalid range radius: " + radius);
+        }
+        int rows = geometry.getRows();
+        this.cols = geometry.getCols();
+        this.radius = radius;
+
+        int[][] offsets = offsetsByDistance(radius);
+
+        int tileCount = rows * cols;
+        int[] buffer = new int[tileCount * offsets.length];
+        this.start = new int[tileCount + 1];
+        int size = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                start[row * cols + col] = size;
+                for (int[] offset : offsets) {
+                    int r = row + offset[0];
+                    int c = col + offset[1];
+                    if (geometry.isValidCoordinate(r, c)) {
+                        buffer[size++] = r * cols + c;
+                    }
+                }
+            }
+        }
+        start[tileCount] = size;
+        this.tiles = Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Lists the offsets within a radius: the origin, the four directions, then each farther
+     * distance in row-major order.
+     */
+    private static int[][] offsetsByDistance(int radius) {
+        int count = 2 * radius * (radius + 1) + 1;
+        int[][] offsets = new int[count][];
+        int n = 0;
+        offsets[n++] = new int[]{0, 0};
+        if (radius >= 1) {
+            for (int[] dir : ValorBoardConstants.MOVEMENT_DIRECTIONS) {
+                offsets[n++] = dir;
+            }
+        }
+        for (int distance = 2; distance <= radius; distance++) {
+            for (int dr = -distance; dr <= distance; dr++) {
+                int dc = distance - Math.abs(dr);
+                offsets[n++] = new int[]{dr, -dc};
+                if (dc != 0) {
+                    offsets[n++] = new int[]{dr, dc};
+                }
+            }
+        }
+        return offsets;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Gets the first position in the tile array of the tiles in range of a tile.
+     */
+    public int start(int tile) {
+        return start[tile];
+    }
+
+    /**
+     * Gets the position just past the last tile in range of a tile.
+     */
+    public int end(int tile) {
+        return start[tile + 1];
+    }
+
+    /**
+     * Gets a tile index stored in the table, for positions between start(tile) and end(tile).
+     */
+    public int tileAt(int position) {
+        return tiles[position];
+    }
+
+    public int tileIndex(int row, int col) {
+        return row * cols + col;
+    }
+}
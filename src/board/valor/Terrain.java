@@ -0,0 +1,132 @@
+/**
+ * Filename: Terrain.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: One row of the terrain table: how a kind of tile behaves and which hero stat it raises.
+ */
+
+package board.valor;
+
+import Data.TerrainRecord;
+import Player.Heroes.Hero;
+
+/**
+ * A kind of terrain, read from Terrain.txt. Every tile of a kind points to the same instance,
+ * and since this is the only terrain class, tile code reads its fields directly instead of
+ * dispatching through one subclass per terrain. The stat bonus is a stat code plus a multiplier,
+ * so a new kind of terrain is a new line in the data file.
+ */
+public final class Terrain {
+    /**
+     * What the board builder uses a terrain for.
+     */
+    public enum Role {
+        PLAIN, LANE, OBSTACLE, WALL, HEROES_NEXUS, MONSTERS_NEXUS;
+
+        /**
+         * Parses a role column such as "HeroesNexus" or "Lane".
+         */
+        public static Role parse(String text) {
+            switch (text.toLowerCase()) {
+                case "plain": return PLAIN;
+                case "lane": return LANE;
+                case "obstacle": return OBSTACLE;
+                case "wall": return WALL;
+                case "heroesnexus": return HEROES_NEXUS;
+                case "monstersnexus": return MONSTERS_NEXUS;
+                default: throw new IllegalArgumentException("Unknown terrain role: " + text);
+            }
+        }
+    }
+
+    // Stat code of terrain that raises nothing; the others are Hero.STAT_* codes
+    public static final int STAT_NONE = -1;
+
+    private final int id;
+    private final String name;
+    private final char symbol;
+    private final boolean passable;
+    private final boolean removable;
+    private final int stat;
+    private final double multiplier;
+    private final Role role;
+
+    Terrain(int id, TerrainRecord record) {
+        this.id = id;
+        this.name = record.getName().replace('_', ' ');
+        this.symbol = record.getSymbol();
+        this.passable = record.isPassable();
+        this.removable = record.isRemovable();
+        this.stat = parseStat(record.getStatAffected());
+        this.multiplier = record.getMultiplier();
+        this.role = Role.parse(record.getRole());
+    }
+
+    private static int parseStat(String stat) {
+        if (stat.equalsIgnoreCase("none")) {
+            return STAT_NONE;
+        }
+        int code = Hero.parseStat(stat);
+        if (code < 0) {
+            throw new IllegalArgumentException("Unknown terrain stat: " + stat);
+        }
+        return code;
+    }
+
+    /**
+     * Raises the hero's stat when they step onto this terrain.
+     */
+    public void applyTerrainBonus(Hero hero) {
+        if (stat != STAT_NONE) {
+            hero.addStatModifier(stat, multiplier);
+        }
+    }
+
+    /**
+     * Takes the bonus back off when the hero leaves.
+     */
+    public void removeTerrainBonus(Hero hero) {
+        if (stat != STAT_NONE) {
+            hero.removeStatModifier(stat, multiplier);
+        }
+    }
+
+    /**
+     * Gets the index of this terrain in its table.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public char getSymbol() {
+        return symbol;
+    }
+
+    public boolean isPassable() {
+        return passable;
+    }
+
+    public boolean isRemovable() {
+        return removable;
+    }
+
+    public int getStat() {
+        return stat;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public boolean isHeroesNexus() {
+        return role == Role.HEROES_NEXUS;
+    }
+
+    public String getTypeName() {
+        return name;
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Filename: TerrainTable.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: All terrain kinds by id, loaded from Terrain.txt, with the kinds the board builder needs.
+ */
+
+package board.valor;
+
+import Data.TerrainRecord;
+import Utilities.DataLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Terrain kinds in file order, indexed by id. Exactly one terrain must fill each of the
+ * Plain, Obstacle, Wall, HeroesNexus and MonstersNexus roles; every Lane terrain is dealt
+ * out over the lane cells, in file order, alongside Plain.
+ */
+public class TerrainTable {
+    private final Terrain[] terrains;
+    private final Terrain[] laneTerrain;
+    private final Terrain[] byRole = new Terrain[Terrain.Role.values().length];
+
+    public TerrainTable(List<TerrainRecord> records) {
+        this.terrains = new Terrain[records.size()];
+        List<Terrain> lane = new ArrayList<>();
+        for (int id = 0; id < terrains.length; id++) {
+            Terrain terrain = new Terrain(id, records.get(id));
+            terrains[id] = terrain;
+            if (terrain.getRole() == Terrain.Role.LANE) {
+                lane.add(terrain);
+            } else if (byRole[terrain.getRole().ordinal()] != null) {
+                throw new IllegalArgumentException("More than one terrain with role " + terrain.getRole());
+            } else {
+                byRole[terrain.getRole().ordinal()] = terrain;
+            }
+        }
+        for (Terrain.Role role : Terrain.Role.values()) {
+            if (role != Terrain.Role.LANE && byRole[role.ordinal()] == null) {
+                throw new IllegalArgumentException("No terrain with role " + role);
+            }
+        }
+        this.laneTerrain = lane.toArray(new Terrain[0]);
+    }
+
+    /**
+     * Holds the standard table; the JVM loads it on the first call to standard(), once.
+     */
+    private static class StandardHolder {
+        static final TerrainTable STANDARD = new TerrainTable(DataLoader.readTerrain());
+    }
+
+    /**
+     * Gets the table read from Terrain.txt when it is first needed.
+     */
+    public static TerrainTable standard() {
+        return StandardHolder.STANDARD;
+    }
+
+    public Terrain get(int id) {
+        return terrains[id];
+    }
+
+    public int size() {
+        return terrains.length;
+    }
+
+    public Terrain getPlain() {
+        return byRole[Terrain.Role.PLAIN.ordinal()];
+    }
+
+    public Terrain getObstacle() {
+        return byRole[Terrain.Role.OBSTACLE.ordinal()];
+    }
+
+    public Terrain getWall() {
+        return byRole[Terrain.Role.WALL.ordinal()];
+    }
+
+    public Terrain getHeroesNexus() {
+        return byRole[Terrain.Role.HEROES_NEXUS.ordinal()];
+    }
+
+    public Terrain getMonstersNexus() {
+        return byRole[Terrain.Role.MONSTERS_NEXUS.ordinal()];
+    }
+
+    /**
+     * Gets the special terrains dealt over the lanes, in file order. The returned array is shared.
+     */
+    public Terrain[] getLaneTerrain() {
+        return laneTerrain;
+    }
+}
@@ -0,0 +1,199 @@
+/**
+ * Filename: ValorBitboard.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Packed bit-layer view of the Valor board used for fast terrain and occupancy checks.
+ */
+
+package board.valor;
+
+/**
+ * Stores one bit per tile for each board layer (passable, removable obstacle, hero
+ * occupancy and monster occupancy). Each row is packed into one or more longs,
+ * so a tile lookup is a single shift-and-mask instead of a walk through tile objects.
+ * The ValorBoard keeps these layers in sync with its tiles.
+ *
+ * The hero and monster layers are also mirrored column by column (one or more longs per
+ * column, one bit per row), so a range query along a column is a mask test instead of a
+ * walk down the rows.
+ */
+public class ValorBitboard {
+    public static final int PASSABLE = 0;
+    public static final int OBSTACLE = 1;
+    public static final int HERO = 2;
+    public static final int MONSTER = 3;
+    public static final int LAYER_COUNT = 4;
+
+    private final int rows;
+    private final int cols;
+    private final int wordsPerRow;
+    private final long[][] layers;
+    // Column-major copies of the HERO and MONSTER layers, indexed by layer - HERO
+    private final int wordsPerCol;
+    private final long[][] columnLayers;
+
+    public ValorBitboard(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.wordsPerRow = (cols + 63) >>> 6;
+        this.layers = new long[LAYER_COUNT][rows * wordsPerRow];
+        this.wordsPerCol = (rows + 63) >>> 6;
+        this.columnLayers = new long[LAYER_COUNT - HERO][cols * wordsPerCol];
+    }
+
+    private int wordIndex(int row, int col) {
+        return row * wordsPerRow + (col >>> 6);
+    }
+
+    public boolean isInside(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    /**
+     * Tests a single bit; coordinates outside the board read as unset.
+     */
+    public boolean get(int layer, int row, int col) {
+        if (!isInside(row, col)) {
+            return false;
+        }
+        return (layers[layer][wordIndex(row, col)] & (1L << col)) != 0;
+    }
+
+    private int columnWordIndex(int row, int col) {
+        return col * wordsPerCol + (row >>> 6);
+    }
+
+    public void set(int layer, int row, int col) {
+        layers[layer][wordIndex(row, col)] |= 1L << col;
+        if (layer >= HERO) {
+            columnLayers[layer - HERO][columnWordIndex(row, col)] |= 1L << row;
+        }
+    }
+
+    public void clear(int layer, int row, int col) {
+        layers[layer][wordIndex(row, col)] &= ~(1L << col);
+        if (layer >= HERO) {
+            columnLayers[layer - HERO][columnWordIndex(row, col)] &= ~(1L << row);
+        }
+    }
+
+    public void set(int layer, int row, int col, boolean value) {
+        if (value) {
+            set(layer, row, col);
+        } else {
+            clear(layer, row, col);
+        }
+    }
+
+    /**
+     * Moves a bit from one tile to another within the same layer.
+     */
+    public void move(int layer, int fromRow, int fromCol, int toRow, int toCol) {
+        clear(layer, fromRow, fromCol);
+        set(layer, toRow, toCol);
+    }
+
+    /**
+     * Records the terrain bits for a tile from its terrain's flags, replacing whatever was stored before.
+     */
+    public void setTerrain(int row, int col, Terrain type) {
+        set(PASSABLE, row, col, type.isPassable());
+        set(OBSTACLE, row, col, type.isRemovable());
+    }
+
+    public boolean isPassable(int row, int col) {
+        return get(PASSABLE, row, col);
+    }
+
+    public boolean hasHero(int row, int col) {
+        return get(HERO, row, col);
+    }
+
+    public boolean hasMonster(int row, int col) {
+        return get(MONSTER, row, col);
+    }
+
+    /**
+     * A tile is free for a hero when it is passable and holds neither a hero nor a monster.
+     */
+    public boolean isOpenForHero(int row, int col) {
+        if (!isInside(row, col)) {
+            return false;
+        }
+        int index = wordIndex(row, col);
+        long bit = 1L << col;
+        long blocked = layers[HERO][index] | layers[MONSTER][index];
+        return (layers[PASSABLE][index] & ~blocked & bit) != 0;
+    }
+
+    /**
+     * Checks whether any bit of a layer is set in a column between two rows (inclusive).
+     * For the hero and monster layers this is a masked test of the column's words.
+     */
+    public boolean anyInColumn(int layer, int col, int fromRow, int toRow) {
+        if (col < 0 || col >= cols) {
+            return false;
+        }
+        int start = Math.max(0, Math.min(fromRow, toRow));
+        int end = Math.min(rows - 1, Math.max(fromRow, toRow));
+        if (start > end) {
+            return false;
+        }
+        if (layer >= HERO) {
+            long[] words = columnLayers[layer - HERO];
+            int firstWord = start >>> 6;
+            int lastWord = end >>> 6;
+            for (int word = firstWord; word <= lastWord; word++) {
+                int low = (word == firstWord) ? (start & 63) : 0;
+                int high = (word == lastWord) ? (end & 63) : 63;
+                long mask = (-1L << low) & (-1L >>> (63 - high));
+                if ((words[col * wordsPerCol + word] & mask) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long bit = 1L << col;
+        long[] words = layers[layer];
+        for (int row = start; row <= end; row++) {
+            if ((words[wordIndex(row, col)] & bit) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether any bit of a layer is set in a row between two columns (inclusive).
+     */
+    public boolean anyInRow(int layer, int row, int fromCol, int toCol) {
+        if (row < 0 || row >= rows) {
+            return false;
+        }
+        int start = Math.max(0, Math.min(fromCol, toCol));
+        int end = Math.min(cols - 1, Math.max(fromCol, toCol));
+        if (start > end) {
+            return false;
+        }
+        long[] words = layers[layer];
+        int firstWord = start >>> 6;
+        int lastWord = end >>> 6;
+        for (int word = firstWord; word <= lastWord; word++) {
+            int low = (word == firstWord) ? (start & 63) : 0;
+            int high = (word == lastWord) ? (end & 63) : 63;
+            long mask = (-1L << low) & (-1L >>> (63 - high));
+            if ((words[row * wordsPerRow + word] & mask) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+}
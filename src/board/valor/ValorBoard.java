@@ -7,8 +7,6 @@
 
 package board.valor;
 
-import board.valor.tiletypes.*;
-import board.common.BoardUtilities;
 import board.common.BoardEntity;
 import Strategy.MovementStrategy;
 import Strategy.HeroMovementStrategy;
@@ -16,14 +14,24 @@ import Strategy.MonsterMovementStrategy;
 import Wrapper.HeroWrapper;
 import Wrapper.MonsterWrapper;
 import Utilities.ValorBoardConstants;
+import Utilities.GameRandom;
 import Player.Heroes.Hero;
 import Player.Monsters.Monster;
 
 import java.util.*;
 
 public class ValorBoard {
+    /** Upper bound on entities returned by a single range query (own tile plus four neighbours). */
+    public static final int MAX_ENTITIES_IN_RANGE = 5;
 
+    private final ValorBoardGeometry geometry;
+    // Tiles each tile can attack, built once per geometry
+    private final RangeTable attackRange;
+    private final TerrainTable terrain;
     private ValorTile[][] grid;
+    private ValorBitboard bitboard;
+    private BoardEntity[] heroOccupants;
+    private BoardEntity[] monsterOccupants;
     private EntityCollection heroes;
     private EntityCollection monsters;
     private Map<Hero, HeroWrapper> heroMap;
@@ -31,115 +39,139 @@ public class ValorBoard {
     private MovementStrategy heroMovementStrategy;
     private MovementStrategy monsterMovementStrategy;
 
-    public ValorBoard() {
-        this.grid = new ValorTile[ValorBoardConstants.BOARD_SIZE][ValorBoardConstants.BOARD_SIZE];
-        this.heroes = new EntityCollection();
-        this.monsters = new EntityCollection();
+    /**
+     * Creates a board whose terrain and obstacles are drawn from the game's random source,
+     * so the same seed always produces the same board.
+     */
+    public ValorBoard(ValorBoardGeometry geometry, GameRandom random) {
+        this(geometry, random, TerrainTable.standard());
+    }
+
+    /**
+     * Creates a board from the given terrain kinds instead of those in Terrain.txt.
+     */
+    public ValorBoard(ValorBoardGeometry geometry, GameRandom random, TerrainTable terrain) {
+        this.geometry = geometry;
+        this.terrain = terrain;
+        this.attackRange = geometry.getRangeTable(ValorBoardConstants.ATTACK_RADIUS);
+        int rows = geometry.getRows();
+        int cols = geometry.getCols();
+        this.grid = new ValorTile[rows][cols];
+        this.bitboard = new ValorBitboard(rows, cols);
+        this.heroOccupants = new BoardEntity[rows * cols];
+        this.monsterOccupants = new BoardEntity[rows * cols];
+        this.heroes = new EntityCollection(geometry);
+        this.monsters = new EntityCollection(geometry);
         this.heroMap = new HashMap<>();
         this.heroNexusPositions = new HashMap<>();
         this.heroMovementStrategy = new HeroMovementStrategy();
         this.monsterMovementStrategy = new MonsterMovementStrategy();
-        initializeBoard();
+        initializeBoard(random);
     }
 
-    private void initializeBoard() {
-        for (int row = 0; row < ValorBoardConstants.BOARD_SIZE; row++) {
-            for (int col = 0; col < ValorBoardConstants.BOARD_SIZE; col++) {
-                grid[row][col] = new ValorTile(new PlainTile());
-            }
-        }
-
-        for (int col = 0; col < ValorBoardConstants.BOARD_SIZE; col++) {
-            if (!ValorBoardUtilities.isWallColumn(col)) {
-                grid[ValorBoardConstants.MONSTERS_NEXUS_ROW][col] = new ValorTile(new NexusTile(false));
-                grid[ValorBoardConstants.BOARD_SIZE - ValorBoardConstants.HEROES_NEXUS_ROW_OFFSET][col] = new ValorTile(new NexusTile(true));
+    private void initializeBoard(GameRandom random) {
+        int rows = geometry.getRows();
+        int cols = geometry.getCols();
+        int monstersNexusRow = geometry.getMonstersNexusRow();
+        int heroesNexusRow = geometry.getHeroesNexusRow();
+        // Terrain is settled per cell first so each tile is built exactly once
+        Terrain[] cells = new Terrain[rows * cols];
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (geometry.isWallColumn(col)) {
+                    cells[tileIndex(row, col)] = terrain.getWall();
+                } else if (row == monstersNexusRow) {
+                    cells[tileIndex(row, col)] = terrain.getMonstersNexus();
+                } else if (row == heroesNexusRow) {
+                    cells[tileIndex(row, col)] = terrain.getHeroesNexus();
+                } else {
+                    cells[tileIndex(row, col)] = terrain.getPlain();
+                }
             }
         }
 
-        for (int row = 0; row < ValorBoardConstants.BOARD_SIZE; row++) {
-            grid[row][ValorBoardConstants.WALL_COLUMN_1] = new ValorTile(new InaccessibleTile());
-            grid[row][ValorBoardConstants.WALL_COLUMN_2] = new ValorTile(new InaccessibleTile());
-        }
-
-        Random random = new Random();
-        List<ValorTileType> terrainPool = new ArrayList<>();
-
-        int columnsPerLane = ValorBoardConstants.LANE_0_COLUMNS.length;
-        int totalLaneCells = (ValorBoardConstants.BOARD_SIZE - ValorBoardConstants.NEXUS_ROW_COUNT) * columnsPerLane * ValorBoardConstants.LANE_COUNT;
+        // One byte per lane cell: 0 for plain, 1 + i for the i-th lane terrain
+        Terrain[] laneTerrain = terrain.getLaneTerrain();
+        int totalLaneCells = geometry.getInnerLaneCellCount();
         int specialCount = (int) (totalLaneCells * ValorBoardConstants.SPECIAL_TERRAIN_PERCENTAGE);
-        int plainCount = totalLaneCells - (specialCount * ValorBoardConstants.TERRAIN_TYPE_COUNT);
+        int plainCount = Math.max(0, totalLaneCells - (specialCount * laneTerrain.length));
+        byte[] terrainPool = new byte[plainCount + specialCount * laneTerrain.length];
+        int poolSize = plainCount;
 
-        for (int i = 0; i < plainCount; i++) {
-            terrainPool.add(new PlainTile());
-        }
         for (int i = 0; i < specialCount; i++) {
-            terrainPool.add(new BushTile());
-            terrainPool.add(new CaveTile());
-            terrainPool.add(new KoulouTile());
+            for (int kind = 0; kind < laneTerrain.length; kind++) {
+                terrainPool[poolSize++] = (byte) (kind + 1);
+            }
         }
 
-        Collections.shuffle(terrainPool);
+        random.shuffle(terrainPool);
         int poolIndex = 0;
 
-        for (int row = 1; row < ValorBoardConstants.BOARD_SIZE - ValorBoardConstants.HEROES_NEXUS_ROW_OFFSET; row++) {
-            for (int col = 0; col < ValorBoardConstants.BOARD_SIZE; col++) {
-                if (!ValorBoardUtilities.isWallColumn(col)) {
-                    if (poolIndex < terrainPool.size()) {
-                        grid[row][col] = new ValorTile(terrainPool.get(poolIndex++));
+        for (int row = monstersNexusRow + 1; row < heroesNexusRow; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (!geometry.isWallColumn(col)) {
+                    if (poolIndex < poolSize) {
+                        int code = terrainPool[poolIndex++];
+                        cells[tileIndex(row, col)] = code == 0 ? terrain.getPlain() : laneTerrain[code - 1];
                     }
                 }
             }
         }
 
-        int obstacleCount = random.nextInt(ValorBoardConstants.OBSTACLE_MAX_COUNT - ValorBoardConstants.OBSTACLE_MIN_COUNT + 1) + ValorBoardConstants.OBSTACLE_MIN_COUNT;
+        // Obstacle count scales with the lane area so larger boards keep the same density
+        int scale = Math.max(1, totalLaneCells / ValorBoardConstants.STANDARD_INNER_LANE_CELLS);
+        int minObstacles = ValorBoardConstants.OBSTACLE_MIN_COUNT * scale;
+        int maxObstacles = ValorBoardConstants.OBSTACLE_MAX_COUNT * scale;
+        int obstacleCount = random.nextInt(maxObstacles - minObstacles + 1) + minObstacles;
         int placed = 0;
         int attempts = 0;
         int maxAttempts = obstacleCount * 10;
+        int innerRows = heroesNexusRow - monstersNexusRow - 1;
 
         while (placed < obstacleCount && attempts < maxAttempts) {
             attempts++;
-            int row = random.nextInt(ValorBoardConstants.BOARD_SIZE - ValorBoardConstants.NEXUS_ROW_COUNT) + 1; // Rows 1-6 only
-            int col;
-            do {
-                col = random.nextInt(ValorBoardConstants.BOARD_SIZE);
-            }
-            while (ValorBoardUtilities.isWallColumn(col));
+            int row = random.nextInt(innerRows) + monstersNexusRow + 1; // Never on a nexus row
+            int lane = random.nextInt(geometry.getLaneCount());
+            int[] laneColumns = geometry.getColumnsForLane(lane);
+            int col = laneColumns[random.nextInt(laneColumns.length)];
 
             // Check if this cell already has an obstacle
-            if (grid[row][col].getState() instanceof ObstacleTile) {
+            if (cells[tileIndex(row, col)].isRemovable()) {
                 continue;
             }
 
-            // Check if placing an obstacle here would block the lane
-            // Find which lane this column belongs to and check if the other column in the same row is passable
-            int[] laneColumns = getLaneColumnsForCol(col);
-            if (laneColumns != null) {
-                int otherCol = (col == laneColumns[0]) ? laneColumns[1] : laneColumns[0];
-                // Only place if the other column is passable (not obstacle, not wall)
-                if (grid[row][otherCol].getState() instanceof ObstacleTile ||
-                        grid[row][otherCol].getState() instanceof InaccessibleTile) {
-                    continue; // Would block the lane, skip
-                }
+            // Check if placing an obstacle here would block the lane:
+            // at least one other column of the lane in this row must stay passable
+            if (!hasOtherPassableColumn(cells, row, col, laneColumns)) {
+                continue; // Would block the lane, skip
             }
 
-            grid[row][col] = new ValorTile(new ObstacleTile());
+            cells[tileIndex(row, col)] = terrain.getObstacle();
             placed++;
         }
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                Terrain type = cells[tileIndex(row, col)];
+                grid[row][col] = new ValorTile(type);
+                bitboard.setTerrain(row, col, type);
+            }
+        }
     }
 
-    /**
-     * Gets the lane columns for a given column.
-     */
-    private int[] getLaneColumnsForCol(int col) {
-        if (col == 0 || col == 1) return ValorBoardConstants.LANE_0_COLUMNS;
-        if (col == 3 || col == 4) return ValorBoardConstants.LANE_1_COLUMNS;
-        if (col == 6 || col == 7) return ValorBoardConstants.LANE_2_COLUMNS;
-        return null;
+    private boolean hasOtherPassableColumn(Terrain[] cells, int row, int col, int[] laneColumns) {
+        for (int otherCol : laneColumns) {
+            if (otherCol != col && cells[tileIndex(row, otherCol)].isPassable()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public void spawnHero(Hero hero, int heroIndex, int lane) {
-        int[] columns = ValorBoardUtilities.getColumnsForLane(lane);
-        int spawnRow = ValorBoardConstants.BOARD_SIZE - ValorBoardConstants.HEROES_NEXUS_ROW_OFFSET;
+        int[] columns = geometry.getColumnsForLane(lane);
+        int spawnRow = geometry.getHeroesNexusRow();
         int spawnCol = columns[ValorBoardConstants.SPAWN_COLUMN_INDEX_0];
 
         HeroWrapper wrapper = new HeroWrapper(hero, heroIndex, spawnRow, spawnCol);
@@ -147,22 +179,62 @@ public class ValorBoard {
         heroes.add(wrapper);
         heroNexusPositions.put(hero, new int[]{spawnRow, spawnCol});
 
-        grid[spawnRow][spawnCol].placeHero(hero);
+        if (grid[spawnRow][spawnCol].placeHero(hero)) {
+            bitboard.set(ValorBitboard.HERO, spawnRow, spawnCol);
+            heroOccupants[tileIndex(spawnRow, spawnCol)] = wrapper;
+        }
     }
 
     public void spawnMonster(Monster monster, int monsterIndex, int lane) {
-        int[] columns = ValorBoardUtilities.getColumnsForLane(lane);
-        int spawnRow = ValorBoardConstants.MONSTERS_NEXUS_ROW;
-        int spawnCol = columns[ValorBoardConstants.SPAWN_COLUMN_INDEX_1];
+        int[] columns = geometry.getColumnsForLane(lane);
+        int spawnRow = geometry.getMonstersNexusRow();
+        int spawnCol = columns[Math.min(ValorBoardConstants.SPAWN_COLUMN_INDEX_1, columns.length - 1)];
 
         MonsterWrapper wrapper = new MonsterWrapper(monster, monsterIndex, spawnRow, spawnCol);
         monsters.add(wrapper);
 
-        grid[spawnRow][spawnCol].placeMonster(monster);
+        if (grid[spawnRow][spawnCol].placeMonster(monster)) {
+            bitboard.set(ValorBitboard.MONSTER, spawnRow, spawnCol);
+            monsterOccupants[tileIndex(spawnRow, spawnCol)] = wrapper;
+        }
+    }
+
+    /**
+     * Checks whether a lane's monsters' nexus has a free tile to spawn on.
+     */
+    public boolean canSpawnMonster(int lane) {
+        int spawnRow = geometry.getMonstersNexusRow();
+        for (int spawnCol : geometry.getColumnsForLane(lane)) {
+            if (bitboard.isPassable(spawnRow, spawnCol) && !bitboard.hasMonster(spawnRow, spawnCol)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Spawns a monster on the first free tile of a lane's monsters' nexus.
+     * @return false if every nexus tile in the lane is taken, in which case nothing is added.
+     */
+    public boolean trySpawnMonster(Monster monster, int monsterIndex, int lane) {
+        int spawnRow = geometry.getMonstersNexusRow();
+        for (int spawnCol : geometry.getColumnsForLane(lane)) {
+            if (bitboard.hasMonster(spawnRow, spawnCol)) {
+                continue;
+            }
+            if (grid[spawnRow][spawnCol].placeMonster(monster)) {
+                MonsterWrapper wrapper = new MonsterWrapper(monster, monsterIndex, spawnRow, spawnCol);
+                monsters.add(wrapper);
+                bitboard.set(ValorBitboard.MONSTER, spawnRow, spawnCol);
+                monsterOccupants[tileIndex(spawnRow, spawnCol)] = wrapper;
+                return true;
+            }
+        }
+        return false;
     }
 
     public ValorTile getTile(int row, int col) {
-        if (!BoardUtilities.isValidCoordinate(row, col, ValorBoardConstants.BOARD_SIZE)) {
+        if (!geometry.isValidCoordinate(row, col)) {
             return null;
         }
         return grid[row][col];
@@ -177,6 +249,13 @@ public class ValorBoard {
         return heroMovementStrategy.move(this, wrapper, direction);
     }
 
+    /**
+     * Lets monsters blocked by an obstacle step sideways within their lane (survival mode).
+     */
+    public void enableMonsterSidesteps() {
+        this.monsterMovementStrategy = new MonsterMovementStrategy(true);
+    }
+
     public boolean moveMonster(MonsterWrapper monster) {
         if (monster == null || !monster.isAlive()) {
             return false;
@@ -188,7 +267,7 @@ public class ValorBoard {
     // made some changes to apply/remove terrain effects
     // CHECK FOR CORRECTNESS
     public boolean moveEntityTo(BoardEntity entity, int newRow, int newCol) {
-        if (!BoardUtilities.isValidCoordinate(newRow, newCol, ValorBoardConstants.BOARD_SIZE)) {
+        if (!geometry.isValidCoordinate(newRow, newCol)) {
             return false;
         }
 
@@ -202,10 +281,10 @@ public class ValorBoard {
             return false;
         }
 
-        ValorTile targetTile = grid[newRow][newCol];
-        if (!targetTile.canEnter()) {
+        if (!bitboard.isPassable(newRow, newCol)) {
             return false;
         }
+        ValorTile targetTile = grid[newRow][newCol];
 
 
         ValorTile oldTile = grid[oldRow][oldCol];
@@ -216,13 +295,13 @@ public class ValorBoard {
             oldTile.removeHero();
             success = targetTile.placeHero(hero);
             if (!success) {
-                // rollback
+                // rollback; placeHero puts the terrain bonus back
                 oldTile.placeHero(hero);
-                oldTile.applyTerrainEffect(hero); // restore buff if move failed
             } else {
                 entity.setPosition(newRow, newCol);
-                // apply terrain effect after entering new tile
-                targetTile.applyTerrainEffect(hero);
+                bitboard.move(ValorBitboard.HERO, oldRow, oldCol, newRow, newCol);
+                heroOccupants[tileIndex(oldRow, oldCol)] = null;
+                heroOccupants[tileIndex(newRow, newCol)] = entity;
             }
         }
         // no terrain effects for monsters!
@@ -234,41 +313,61 @@ public class ValorBoard {
                 oldTile.placeMonster(monster);
             } else {
                 entity.setPosition(newRow, newCol);
+                bitboard.move(ValorBitboard.MONSTER, oldRow, oldCol, newRow, newCol);
+                monsterOccupants[tileIndex(oldRow, oldCol)] = null;
+                monsterOccupants[tileIndex(newRow, newCol)] = entity;
             }
         }
 
         return success;
     }
 
-    public List<BoardEntity> getEntitiesInRange(int row, int col, boolean isHero) {
-        List<BoardEntity> inRange = new ArrayList<>();
-        List<int[]> rangeCoords = ValorBoardUtilities.getCoordinatesInRange(row, col, ValorBoardConstants.BOARD_SIZE);
+    /**
+     * Fills the given buffer with the living opposing entities in range of a tile (the tile
+     * itself plus its orthogonal neighbours), read straight from the occupancy index.
+     * @param isHero true to look for monsters (the attacker is a hero), false to look for heroes.
+     * @param out Buffer of at least MAX_ENTITIES_IN_RANGE slots.
+     * @return The number of entities written to the buffer.
+     */
+    public int getEntitiesInRange(int row, int col, boolean isHero, BoardEntity[] out) {
+        return getEntitiesInRange(row, col, isHero, attackRange, out);
+    }
 
-        for (int[] coord : rangeCoords) {
-            ValorTile tile = grid[coord[0]][coord[1]];
-            if (isHero && tile.hasMonster()) {
-                for (BoardEntity entity : monsters) {
-                    if (entity.getRow() == coord[0] && entity.getCol() == coord[1]) {
-                        inRange.add(entity);
-                        break;
-                    }
-                }
-            } else if (!isHero && tile.hasHero()) {
-                for (BoardEntity entity : heroes) {
-                    if (entity.getRow() == coord[0] && entity.getCol() == coord[1]) {
-                        inRange.add(entity);
-                        break;
-                    }
-                }
+    /**
+     * Fills the given buffer with the living opposing entities within a range table's radius,
+     * e.g. geometry.getRangeTable(2) for a longer-reaching weapon or spell.
+     * @param out Buffer with room for every tile of the range.
+     * @return The number of entities written to the buffer.
+     */
+    public int getEntitiesInRange(int row, int col, boolean isHero, RangeTable range, BoardEntity[] out) {
+        if (!isValidCoordinate(row, col)) {
+            return 0;
+        }
+        BoardEntity[] occupants = isHero ? monsterOccupants : heroOccupants;
+        int tile = tileIndex(row, col);
+        int count = 0;
+        for (int i = range.start(tile), end = range.end(tile); i < end; i++) {
+            BoardEntity occupant = occupants[range.tileAt(i)];
+            if (occupant != null && occupant.isAlive()) {
+                out[count++] = occupant;
             }
         }
-
-        return inRange;
+        return count;
     }
 
-    public List<BoardEntity> getEntitiesInRange(BoardEntity entity) {
-        boolean isHero = entity instanceof HeroWrapper;
-        return getEntitiesInRange(entity.getRow(), entity.getCol(), isHero);
+    /**
+     * Checks whether any living opposing entity is in range of an entity, without building a list.
+     */
+    public boolean hasEntitiesInRange(BoardEntity entity) {
+        BoardEntity[] occupants = (entity instanceof HeroWrapper) ? monsterOccupants : heroOccupants;
+        int tile = tileIndex(entity.getRow(), entity.getCol());
+        for (int i = attackRange.start(tile), end = attackRange.end(tile); i < end; i++) {
+            BoardEntity occupant = occupants[attackRange.tileAt(i)];
+            if (occupant != null && occupant.isAlive()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public boolean teleport(Hero hero, Hero targetHero) {
@@ -279,8 +378,8 @@ public class ValorBoard {
             return false;
         }
 
-        int heroLane = ValorBoardUtilities.getLaneForColumn(wrapper.getCol());
-        int targetLane = ValorBoardUtilities.getLaneForColumn(targetWrapper.getCol());
+        int heroLane = heroes.getLane(wrapper.getSlot());
+        int targetLane = heroes.getLane(targetWrapper.getSlot());
 
         if (heroLane == targetLane || heroLane == ValorBoardConstants.INVALID_LANE || targetLane == ValorBoardConstants.INVALID_LANE) {
             return false;
@@ -295,24 +394,12 @@ public class ValorBoard {
             int newRow = targetRow + dir[0];
             int newCol = targetCol + dir[1];
 
-            if (BoardUtilities.isValidCoordinate(newRow, newCol, ValorBoardConstants.BOARD_SIZE)) {
-                ValorTile tile = grid[newRow][newCol];
-
-                if (tile.hasHero()) {
-                    continue;
-                }
-
-                if (tile.hasMonster()) {
-                    continue;
-                }
-
-                if (newRow < targetRow) {
-                    continue;
-                }
+            if (newRow < targetRow) {
+                continue;
+            }
 
-                if (tile.canEnter()) {
-                    validPositions.add(new int[]{newRow, newCol});
-                }
+            if (bitboard.isOpenForHero(newRow, newCol)) {
+                validPositions.add(new int[]{newRow, newCol});
             }
         }
 
@@ -344,16 +431,158 @@ public class ValorBoard {
             return false;
         }
 
-        tile.removeObstacle();
+        tile.removeObstacle(terrain.getPlain());
+        bitboard.setTerrain(row, col, tile.getState());
         return true;
     }
 
+    /**
+     * Puts a respawned hero back on their nexus tile, clearing whatever tile they were on.
+     * @return true if the hero was placed on the nexus.
+     */
+    public boolean respawnHero(Hero hero) {
+        HeroWrapper wrapper = heroMap.get(hero);
+        int[] nexusPos = heroNexusPositions.get(hero);
+        if (wrapper == null || nexusPos == null) {
+            return false;
+        }
+
+        int oldRow = wrapper.getRow();
+        int oldCol = wrapper.getCol();
+        if (grid[oldRow][oldCol].getHero() == hero) {
+            grid[oldRow][oldCol].removeHero();
+            bitboard.clear(ValorBitboard.HERO, oldRow, oldCol);
+            heroOccupants[tileIndex(oldRow, oldCol)] = null;
+        }
+
+        ValorTile nexusTile = grid[nexusPos[0]][nexusPos[1]];
+        if (nexusTile.hasHero() || !nexusTile.placeHero(hero)) {
+            return false;
+        }
+        wrapper.setPosition(nexusPos[0], nexusPos[1]);
+        bitboard.set(ValorBitboard.HERO, nexusPos[0], nexusPos[1]);
+        heroOccupants[tileIndex(nexusPos[0], nexusPos[1])] = wrapper;
+        return true;
+    }
+
+    private int tileIndex(int row, int col) {
+        return row * geometry.getCols() + col;
+    }
+
+    public boolean isValidCoordinate(int row, int col) {
+        return geometry.isValidCoordinate(row, col);
+    }
+
+    public boolean isPassable(int row, int col) {
+        return bitboard.isPassable(row, col);
+    }
+
+    public boolean hasHeroAt(int row, int col) {
+        return bitboard.hasHero(row, col);
+    }
+
+    public boolean hasMonsterAt(int row, int col) {
+        return bitboard.hasMonster(row, col);
+    }
+
+    public boolean hasObstacleAt(int row, int col) {
+        return bitboard.get(ValorBitboard.OBSTACLE, row, col);
+    }
+
+    /**
+     * Checks for a monster on any tile of a column between two rows (inclusive).
+     */
+    public boolean hasMonsterInColumn(int col, int fromRow, int toRow) {
+        return bitboard.anyInColumn(ValorBitboard.MONSTER, col, fromRow, toRow);
+    }
+
+    /**
+     * Checks for a monster on any tile of a row between two columns (inclusive).
+     */
+    public boolean hasMonsterInRow(int row, int fromCol, int toCol) {
+        return bitboard.anyInRow(ValorBitboard.MONSTER, row, fromCol, toCol);
+    }
+
+    public ValorBitboard getBitboard() {
+        return bitboard;
+    }
+
     public void printBoard() {
         Display.Valor.ValorBoardDisplay.printBoard(this);
     }
 
+    /**
+     * Gets the number of rows. Kept for callers written against the square board;
+     * use getRows/getCols when the layout may not be square.
+     */
     public int getSize() {
-        return ValorBoardConstants.BOARD_SIZE;
+        return geometry.getRows();
+    }
+
+    public int getRows() {
+        return geometry.getRows();
+    }
+
+    public int getCols() {
+        return geometry.getCols();
+    }
+
+    public ValorBoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    public int getLaneCount() {
+        return geometry.getLaneCount();
+    }
+
+    public int getLaneForColumn(int col) {
+        return geometry.getLaneForColumn(col);
+    }
+
+    public int getMonstersNexusRow() {
+        return geometry.getMonstersNexusRow();
+    }
+
+    public int getHeroesNexusRow() {
+        return geometry.getHeroesNexusRow();
+    }
+
+    /**
+     * Checks whether an alive hero stands on the monsters' nexus row.
+     * Reads each lane's lowest hero row, so only a lane with a hero on that row is looked into.
+     */
+    public boolean isMonstersNexusReached() {
+        int nexusRow = getMonstersNexusRow();
+        for (int lane = 0; lane < geometry.getLaneCount(); lane++) {
+            if (heroes.getMinRow(lane) == nexusRow && findAlive(heroOccupants, lane, nexusRow) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether an alive monster stands on (or past) the heroes' nexus row.
+     */
+    public boolean isHeroesNexusReached() {
+        int nexusRow = getHeroesNexusRow();
+        for (int lane = 0; lane < geometry.getLaneCount(); lane++) {
+            int frontRow = monsters.getMaxRow(lane);
+            if (frontRow >= nexusRow && findAlive(monsterOccupants, lane, frontRow) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private BoardEntity findAlive(BoardEntity[] occupants, int lane, int row) {
+        for (int col : geometry.getColumnsForLane(lane)) {
+            BoardEntity occupant = occupants[tileIndex(row, col)];
+            if (occupant != null && occupant.isAlive()) {
+                return occupant;
+            }
+        }
+        return null;
     }
 
     public EntityCollection getHeroes() {
@@ -369,13 +598,22 @@ public class ValorBoard {
     }
 
     public void removeEntity(BoardEntity entity) {
+        int index = tileIndex(entity.getRow(), entity.getCol());
         if (entity instanceof HeroWrapper) {
             heroes.remove(entity);
-            grid[entity.getRow()][entity.getCol()].removeHero();
+            // Only clear the tile if this entity is the one actually standing on it
+            if (heroOccupants[index] == entity) {
+                grid[entity.getRow()][entity.getCol()].removeHero();
+                bitboard.clear(ValorBitboard.HERO, entity.getRow(), entity.getCol());
+                heroOccupants[index] = null;
+            }
         } else if (entity instanceof MonsterWrapper) {
             monsters.remove(entity);
-            grid[entity.getRow()][entity.getCol()].removeMonster();
+            if (monsterOccupants[index] == entity) {
+                grid[entity.getRow()][entity.getCol()].removeMonster();
+                bitboard.clear(ValorBitboard.MONSTER, entity.getRow(), entity.getCol());
+                monsterOccupants[index] = null;
+            }
         }
     }
 }
-
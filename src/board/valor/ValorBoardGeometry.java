@@ -0,0 +1,147 @@
+/**
+ * Filename: ValorBoardGeometry.java
+ * Author: Nandana Shashi
+ * Date: 2025-Dec
+ * Description: Describes the lane/wall layout of a Valor board and precomputes column and lane lookup tables.
+ */
+
+package board.valor;
+
+import Utilities.ValorBoardConstants;
+
+import java.util.Arrays;
+
+/**
+ * Immutable board layout: N lanes of a fixed width separated by single wall columns,
+ * with the monsters' nexus on the first row and the heroes' nexus on the last row.
+ * Column-to-lane and lane-to-columns tables are built once so lookups are array reads,
+ * and range tables are built on first use for each attack radius.
+ */
+public class ValorBoardGeometry {
+    private static final ValorBoardGeometry STANDARD = new ValorBoardGeometry(
+            ValorBoardConstants.LANE_COUNT, ValorBoardConstants.LANE_WIDTH, ValorBoardConstants.BOARD_SIZE);
+
+    private final int laneCount;
+    private final int laneWidth;
+    private final int rows;
+    private final int cols;
+    private final int[] columnToLane;
+    private final int[][] laneColumns;
+    // Range tables by radius; immutable, so a table built twice by racing threads is harmless
+    private RangeTable[] rangeTables = new RangeTable[ValorBoardConstants.ATTACK_RADIUS + 1];
+
+    /**
+     * Creates a board layout.
+     * @param laneCount Number of lanes (at least 1).
+     * @param laneWidth Number of columns in each lane (at least 1).
+     * @param rows Number of rows, including both nexus rows (at least 3).
+     */
+    public ValorBoardGeometry(int laneCount, int laneWidth, int rows) {
+        if (laneCount < 1 || laneWidth < 1 || rows < ValorBoardConstants.NEXUS_ROW_COUNT + 1) {
+            throw new IllegalArgumentException("Invalid board geometry: " + laneCount + " lanes x "
+                    + laneWidth + " columns x " + rows + " rows");
+        }
+        this.laneCount = laneCount;
+        this.laneWidth = laneWidth;
+        this.rows = rows;
+        this.cols = laneCount * laneWidth + (laneCount - 1) * ValorBoardConstants.WALL_WIDTH;
+        this.columnToLane = new int[cols];
+        this.laneColumns = new int[laneCount][laneWidth];
+
+        int col = 0;
+        for (int lane = 0; lane < laneCount; lane++) {
+            for (int i = 0; i < laneWidth; i++) {
+                laneColumns[lane][i] = col;
+                columnToLane[col] = lane;
+                col++;
+            }
+            for (int w = 0; w < ValorBoardConstants.WALL_WIDTH && col < cols; w++) {
+                columnToLane[col] = ValorBoardConstants.INVALID_LANE;
+                col++;
+            }
+        }
+    }
+
+    /**
+     * Gets the default 8x8 three-lane layout.
+     */
+    public static ValorBoardGeometry standard() {
+        return STANDARD;
+    }
+
+    public int getLaneCount() {
+        return laneCount;
+    }
+
+    public int getLaneWidth() {
+        return laneWidth;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getMonstersNexusRow() {
+        return ValorBoardConstants.MONSTERS_NEXUS_ROW;
+    }
+
+    public int getHeroesNexusRow() {
+        return rows - ValorBoardConstants.HEROES_NEXUS_ROW_OFFSET;
+    }
+
+    /**
+     * Gets the lane a column belongs to, or INVALID_LANE for walls and out-of-range columns.
+     */
+    public int getLaneForColumn(int col) {
+        if (col < 0 || col >= cols) {
+            return ValorBoardConstants.INVALID_LANE;
+        }
+        return columnToLane[col];
+    }
+
+    /**
+     * Gets the columns of a lane, or null for an invalid lane. The returned array is shared.
+     */
+    public int[] getColumnsForLane(int lane) {
+        if (lane < 0 || lane >= laneCount) {
+            return null;
+        }
+        return laneColumns[lane];
+    }
+
+    /**
+     * Gets the table of tiles within a Manhattan radius of each tile, building it on first use.
+     */
+    public RangeTable getRangeTable(int radius) {
+        RangeTable[] tables = rangeTables;
+        if (radius >= tables.length) {
+            tables = Arrays.copyOf(tables, radius + 1);
+            rangeTables = tables;
+        }
+        RangeTable table = tables[radius];
+        if (table == null) {
+            table = new RangeTable(this, radius);
+            tables[radius] = table;
+        }
+        return table;
+    }
+
+    public boolean isWallColumn(int col) {
+        return col >= 0 && col < cols && columnToLane[col] == ValorBoardConstants.INVALID_LANE;
+    }
+
+    public boolean isValidCoordinate(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    /**
+     * Number of lane tiles between the two nexus rows, i.e. the tiles that receive random terrain.
+     */
+    public int getInnerLaneCellCount() {
+        return (rows - ValorBoardConstants.NEXUS_ROW_COUNT) * laneWidth * laneCount;
+    }
+}
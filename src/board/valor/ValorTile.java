@@ -7,26 +7,25 @@
 
 package board.valor;
 
-import board.valor.tiletypes.*;
 import Player.Heroes.Hero;
 import Player.Monsters.Monster;
 
 public class ValorTile {
-    private ValorTileType state;
+    private Terrain state;
     private Hero hero;
     private Monster monster;
     
-    public ValorTile(ValorTileType state) {
+    public ValorTile(Terrain state) {
         this.state = state;
         this.hero = null;
         this.monster = null;
     }
     
-    public ValorTileType getState() {
+    public Terrain getState() {
         return state;
     }
     
-    public void setState(ValorTileType newState) {
+    public void setState(Terrain newState) {
         if (hero != null && state != newState) {
             state.removeTerrainBonus(hero);
             newState.applyTerrainBonus(hero);
@@ -68,7 +67,6 @@ public class ValorTile {
             return false;
         }
         this.monster = monster;
-        state.applyMonsterBonus(monster);
         return true;
     }
     
@@ -92,9 +90,12 @@ public class ValorTile {
         return monster != null;
     }
     
-    public void removeObstacle() {
+    /**
+     * Replaces a removable obstacle with the given terrain (the table's plain terrain).
+     */
+    public void removeObstacle(Terrain replacement) {
         if (state.isRemovable()) {
-            setState(new PlainTile());
+            setState(replacement);
         }
     }
     
@@ -1,44 +0,0 @@
-/**
- * Filename: ObstacleTile.java
- * Author: Nandana Shashi
- * Date: 2025-Dec
- * Description: Tile type representing obstacles that block movement but can be removed.
- */
-
-package board.valor.tiletypes;
-
-import board.valor.ValorTileType;
-import Player.Heroes.Hero;
-import Player.Monsters.Monster;
-
-public class ObstacleTile implements ValorTileType {
-    @Override
-    public char getSymbol() {
-        return 'O';
-    }
-    
-    @Override
-    public boolean isPassable() {
-        return false;
-    }
-    
-    @Override
-    public void applyTerrainBonus(Hero hero) {}
-    
-    @Override
-    public void removeTerrainBonus(Hero hero) {}
-    
-    @Override
-    public void applyMonsterBonus(Monster monster) {}
-    
-    @Override
-    public boolean isRemovable() {
-        return true;
-    }
-    
-    @Override
-    public String getTypeName() {
-        return "Obstacle";
-    }
-}
-